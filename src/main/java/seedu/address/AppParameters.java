@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,9 +17,17 @@ import seedu.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** Command-line flag that runs the app without a display. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchScriptPath;
+    private String username;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +37,62 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the batch script to run instead of showing the app, or null if there is none.
+     */
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    /**
+     * Returns the username of the account to log in with when running without the login dialog, or null if none
+     * was given.
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, without going through JavaFX.
+     * Named parameters take the same {@code --name=value} form that JavaFX accepts, and other arguments are ignored.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    /**
+     * Returns true if {@code args} ask for the app to run without a display.
+     */
+    public static boolean isHeadless(String[] args) {
+        return Arrays.asList(args).contains(HEADLESS_FLAG);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +101,15 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchScriptPathParameter = namedParameters.get("batch");
+        if (batchScriptPathParameter != null && !FileUtil.isValidPath(batchScriptPathParameter)) {
+            logger.warning("Invalid batch script path " + batchScriptPathParameter + ". Not running a batch script.");
+            batchScriptPathParameter = null;
+        }
+        appParameters.setBatchScriptPath(batchScriptPathParameter != null ? Paths.get(batchScriptPathParameter) : null);
+
+        appParameters.setUsername(namedParameters.get("username"));
+
         return appParameters;
     }
 
@@ -56,18 +125,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchScriptPath, otherAppParameters.batchScriptPath)
+                && Objects.equals(username, otherAppParameters.username);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, username);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchScriptPath", batchScriptPath)
+                .add("username", username)
                 .toString();
     }
 }
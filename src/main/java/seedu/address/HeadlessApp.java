@@ -0,0 +1,157 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AuthenticateCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.AuthenticateException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.InvalidAccessRightsException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs commands against the address book without a display, for scripts, cron jobs and load tests.
+ * Commands are read one per line from the {@code --batch} script, or from standard input if there is none, and the
+ * outcome of each is written to standard output. The JavaFX toolkit is never started.
+ * As there is no login dialog, the account to run the commands as is given with the {@code --username} parameter,
+ * and its password with the {@value #PASSWORD_ENVIRONMENT_VARIABLE} environment variable, so that the password does
+ * not show up in process listings or shell history. The account is checked against the account book like the login
+ * dialog does.
+ */
+public class HeadlessApp {
+
+    public static final String PASSWORD_ENVIRONMENT_VARIABLE = "ADDRESSBOOK_PASSWORD";
+
+    public static final String MESSAGE_FAILURE = "Error: %1$s";
+    public static final String MESSAGE_MISSING_CREDENTIALS = "Running without a display needs the "
+            + "--username=USERNAME of an account to run the commands as, and its password in the "
+            + PASSWORD_ENVIRONMENT_VARIABLE + " environment variable.";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a runner that executes commands through {@code logic}.
+     * Until {@link #logIn(String, String)} succeeds, commands run with the access rights of a logged out user.
+     */
+    public HeadlessApp(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs the app with the command-line arguments {@code args}, and exits with status 1 if any command failed.
+     */
+    public static void main(String[] args) {
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        AppParameters appParameters = AppParameters.parse(args);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = AppInitializer.initUserPrefsStorage(config);
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        logic.setSaveFailureHandler(System.err::println);
+
+        logger.info("Starting AddressBook without a display");
+        HeadlessApp app = new HeadlessApp(logic);
+        boolean isSuccessful = false;
+        try {
+            app.logIn(appParameters.getUsername(), System.getenv(PASSWORD_ENVIRONMENT_VARIABLE));
+            isSuccessful = appParameters.getBatchScriptPath() != null
+                    ? app.run(appParameters.getBatchScriptPath(), System.out)
+                    : app.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                            System.out);
+        } catch (AuthenticateException e) {
+            logger.warning("Failed to log in without a display");
+            System.err.println(e.getMessage());
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            System.err.println(e.getMessage());
+        }
+
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flush();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        System.exit(isSuccessful ? 0 : 1);
+    }
+
+    /**
+     * Logs in as the account in the account book with {@code username} and {@code password}, so that the commands
+     * run afterwards have that account's access rights.
+     *
+     * {@code username} and {@code password} are null if they were not given.
+     *
+     * @throws AuthenticateException if either is missing, or no account has {@code username} and {@code password}.
+     */
+    public void logIn(String username, String password) throws AuthenticateException {
+        if (username == null || password == null) {
+            throw new AuthenticateException(MESSAGE_MISSING_CREDENTIALS);
+        }
+        new AuthenticateCommand(username, password).authenticateUser(logic);
+    }
+
+    /**
+     * Runs the commands in the script at {@code scriptPath} and writes their outcome to {@code out}.
+     * Returns true if every command succeeded.
+     */
+    public boolean run(Path scriptPath, PrintStream out) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            return run(reader, out);
+        }
+    }
+
+    /**
+     * Runs the commands read from {@code in}, one per line, until it is exhausted or an exit command is run.
+     * The outcome of each command is written to {@code out} as soon as it finishes.
+     * Returns true if every command succeeded.
+     */
+    public boolean run(BufferedReader in, PrintStream out) throws IOException {
+        boolean isSuccessful = true;
+        String line;
+        while ((line = in.readLine()) != null) {
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(BatchCommand.COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException | InvalidAccessRightsException e) {
+                out.println(String.format(MESSAGE_FAILURE, e.getMessage()));
+                isSuccessful = false;
+            }
+        }
+        out.flush();
+        return isSuccessful;
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats the address book can be saved in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, also used to import and export address books. */
+    JSON,
+    /** A compact binary snapshot, which is much faster to load. */
+    BINARY
+}
@@ -0,0 +1,69 @@
+package seedu.address.commons.core.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the indexes from a start {@code Index} to an end {@code Index}, both inclusive.
+ * Only the two ends are kept, so a range can be checked against the size of a list before the indexes it covers are
+ * visited.
+ */
+public class IndexRange {
+    private final Index start;
+    private final Index end;
+
+    private IndexRange(Index start, Index end) {
+        requireAllNonNull(start, end);
+        if (start.getZeroBased() > end.getZeroBased()) {
+            throw new IllegalArgumentException("Start of range is after its end");
+        }
+
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Creates a new {@code IndexRange} from {@code start} to {@code end}, both inclusive.
+     *
+     * @throws IllegalArgumentException if {@code start} is after {@code end}.
+     */
+    public static IndexRange of(Index start, Index end) {
+        return new IndexRange(start, end);
+    }
+
+    /**
+     * Creates a new {@code IndexRange} that covers {@code index} only.
+     */
+    public static IndexRange of(Index index) {
+        return new IndexRange(index, index);
+    }
+
+    public Index getStart() {
+        return start;
+    }
+
+    public Index getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexRange)) {
+            return false;
+        }
+
+        IndexRange otherRange = (IndexRange) other;
+        return start.equals(otherRange.start) && end.equals(otherRange.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("start", start).add("end", end).toString();
+    }
+}
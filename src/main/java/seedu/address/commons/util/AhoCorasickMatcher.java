@@ -0,0 +1,194 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+
+/**
+ * Finds whether a text contains any of a fixed set of patterns, in a single scan of the text however many
+ * patterns there are.
+ * The patterns are compiled into an Aho-Corasick automaton, stored as a table of transitions over the distinct
+ * characters of the patterns. Characters that appear in no pattern all share a single column of the table.
+ * For few patterns, checking each pattern in turn is faster; see {@link #MIN_PATTERN_COUNT}.
+ */
+public class AhoCorasickMatcher {
+
+    /**
+     * The number of patterns from which a matcher is expected to be faster than checking each pattern in turn.
+     */
+    public static final int MIN_PATTERN_COUNT = 8;
+
+    private static final int ROOT = 0;
+    private static final int ASCII_LIMIT = 128;
+
+    private final boolean isWholeWord;
+    private final char[] alphabet;
+    private final int[] asciiCharClasses = new int[ASCII_LIMIT];
+    private final int width;
+    private final int[] transitions;
+    private final int[][] matchLengths;
+
+    private AhoCorasickMatcher(Collection<String> patterns, boolean isWholeWord) {
+        this.isWholeWord = isWholeWord;
+
+        TreeSet<Character> characters = new TreeSet<>();
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                characters.add(pattern.charAt(i));
+            }
+        }
+        alphabet = new char[characters.size()];
+        int index = 0;
+        for (char c : characters) {
+            alphabet[index] = c;
+            if (c < ASCII_LIMIT) {
+                asciiCharClasses[c] = index + 1;
+            }
+            index++;
+        }
+        width = alphabet.length + 1;
+
+        List<Map<Integer, Integer>> children = new ArrayList<>();
+        List<List<Integer>> lengths = new ArrayList<>();
+        children.add(new HashMap<>());
+        lengths.add(new ArrayList<>());
+        for (String pattern : patterns) {
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                int charClass = toCharClass(pattern.charAt(i));
+                Integer next = children.get(state).get(charClass);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    lengths.add(new ArrayList<>());
+                    children.get(state).put(charClass, next);
+                }
+                state = next;
+            }
+            lengths.get(state).add(pattern.length());
+        }
+
+        transitions = new int[children.size() * width];
+        buildTransitions(children, lengths);
+        matchLengths = new int[children.size()][];
+        for (int state = 0; state < matchLengths.length; state++) {
+            matchLengths[state] = lengths.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Returns a matcher for texts that contain any of {@code needles} as a substring.
+     * Both the needles and the texts must already be normalised, by {@link StringUtil#toSearchNeedle(String)} and
+     * {@link StringUtil#toSearchKey(String)} respectively, for the match to ignore case.
+     *
+     * @param needles cannot be null, cannot contain empty needles
+     */
+    public static AhoCorasickMatcher forSubstrings(Collection<String> needles) {
+        requireAllNonNull(needles);
+        for (String needle : needles) {
+            checkArgument(!needle.isEmpty(), "Substring parameter cannot be empty");
+        }
+        return new AhoCorasickMatcher(needles, false);
+    }
+
+    /**
+     * Returns a matcher for texts that contain any of {@code words} as a whole word, ignoring case.
+     * Gives the same result as checking each word with {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     *
+     * @param words cannot be null, cannot contain empty words, each must be a single word
+     */
+    public static AhoCorasickMatcher forWordsIgnoreCase(Collection<String> words) {
+        requireAllNonNull(words);
+        List<String> foldedWords = new ArrayList<>(words.size());
+        for (String word : words) {
+            String preppedWord = word.trim();
+            checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+            foldedWords.add(StringUtil.foldCase(preppedWord));
+        }
+        return new AhoCorasickMatcher(foldedWords, true);
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the patterns of this matcher.
+     */
+    public boolean matches(String text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = isWholeWord ? StringUtil.foldCase(text.charAt(i)) : text.charAt(i);
+            state = transitions[state * width + toCharClass(c)];
+            int[] lengths = matchLengths[state];
+            if (lengths.length == 0) {
+                continue;
+            }
+            if (!isWholeWord) {
+                return true;
+            }
+            for (int length : lengths) {
+                if (isWordBoundary(text, i - length) && isWordBoundary(text, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fills in the transitions of every state of the trie in {@code children}, following the longest suffix that is
+     * also in the trie wherever the trie has no child. Also adds to {@code lengths} of each state the lengths of the
+     * patterns that end at that suffix.
+     */
+    private void buildTransitions(List<Map<Integer, Integer>> children, List<List<Integer>> lengths) {
+        int[] suffixLinks = new int[children.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int charClass = 0; charClass < width; charClass++) {
+            Integer child = children.get(ROOT).get(charClass);
+            if (child != null) {
+                transitions[charClass] = child;
+                suffixLinks[child] = ROOT;
+                queue.add(child);
+            }
+        }
+
+        // states are visited in order of depth, so the state a suffix link points to is always complete
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            lengths.get(state).addAll(lengths.get(suffixLinks[state]));
+            for (int charClass = 0; charClass < width; charClass++) {
+                int suffixTransition = transitions[suffixLinks[state] * width + charClass];
+                Integer child = children.get(state).get(charClass);
+                if (child == null) {
+                    transitions[state * width + charClass] = suffixTransition;
+                } else {
+                    transitions[state * width + charClass] = child;
+                    suffixLinks[child] = suffixTransition;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the column of {@code c} in the transition table, which is 0 for characters in no pattern.
+     */
+    private int toCharClass(char c) {
+        if (c < ASCII_LIMIT) {
+            return asciiCharClasses[c];
+        }
+        int index = Arrays.binarySearch(alphabet, c);
+        return index < 0 ? 0 : index + 1;
+    }
+
+    private static boolean isWordBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || Character.isWhitespace(text.charAt(index));
+    }
+}
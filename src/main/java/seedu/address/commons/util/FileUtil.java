@@ -1,16 +1,23 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -80,4 +87,32 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes a file with {@code contentWriter}, creating its missing parent directories.
+     * The content is written to a temporary file next to {@code file} first, which then replaces {@code file} in a
+     * single step once it is synced to the disk, so {@code file} is never left partly written.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                contentWriter.write(Channels.newOutputStream(channel));
+                channel.force(true);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an {@code OutputStream}, which it should not close.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
 }
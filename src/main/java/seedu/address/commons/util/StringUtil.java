@@ -49,11 +49,72 @@ public class StringUtil {
         requireNonNull(text);
         requireNonNull(substring);
 
+        return containsNormalizedSubstring(toSearchKey(text), toSearchNeedle(substring));
+    }
+
+    /**
+     * Returns {@code text} in the normalised form compared by {@link #containsSubstringIgnoreCase(String, String)}.
+     * Values that are searched repeatedly can compute this once and keep it.
+     *
+     * @param text cannot be null
+     */
+    public static String toSearchKey(String text) {
+        requireNonNull(text);
+        return text.toUpperCase();
+    }
+
+    /**
+     * Returns {@code substring} trimmed and in the normalised form compared by
+     * {@link #containsSubstringIgnoreCase(String, String)}.
+     * Keywords that are searched for repeatedly can compute this once and keep it.
+     *
+     * @param substring cannot be null, cannot be blank
+     */
+    public static String toSearchNeedle(String substring) {
+        requireNonNull(substring);
+
         String preppedSubstring = substring.trim();
         checkArgument(!preppedSubstring.isEmpty() && !preppedSubstring.isBlank(),
             "Substring parameter cannot be empty");
 
-        return text.toUpperCase().contains(preppedSubstring.toUpperCase());
+        return preppedSubstring.toUpperCase();
+    }
+
+    /**
+     * Returns true if {@code searchKey} contains {@code needle}.
+     * Equivalent to {@link #containsSubstringIgnoreCase(String, String)} when the arguments have already been
+     * normalised by {@link #toSearchKey(String)} and {@link #toSearchNeedle(String)}, but without normalising them
+     * again on every call.
+     *
+     * @param searchKey cannot be null
+     * @param needle    cannot be null
+     */
+    public static boolean containsNormalizedSubstring(String searchKey, String needle) {
+        requireNonNull(searchKey);
+        requireNonNull(needle);
+        return searchKey.contains(needle);
+    }
+
+    /**
+     * Folds the case of {@code c}, mirroring {@link String#equalsIgnoreCase(String)}: two characters are equal
+     * ignoring case exactly when their folded forms are equal.
+     */
+    public static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Folds the case of {@code text} character by character with {@link #foldCase(char)}.
+     *
+     * @param text cannot be null
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = foldCase(chars[i]);
+        }
+        return new String(chars);
     }
 
     /**
@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating the fields of the model.
+ * Simple character classes are checked by scanning the string once, and anything more involved is matched against a
+ * {@link Pattern} compiled once by the caller, so validating a field never compiles a regex or throws an exception.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, like {@code \p{Alnum}} in a regex.
+     */
+    public static boolean isAlphanumeric(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, like {@code \d} in a regex.
+     */
+    public static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character, like {@code \s} in a regex.
+     */
+    public static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if every character of {@code test} from {@code fromIndex} onwards is accepted by {@code isAllowed}.
+     *
+     * @throws NullPointerException if {@code test} is null.
+     */
+    public static boolean consistsOf(String test, int fromIndex, IntPredicate isAllowed) {
+        for (int i = fromIndex; i < test.length(); i++) {
+            if (!isAllowed.test(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is made up of between {@code minLength} and {@code maxLength} ASCII digits.
+     *
+     * @throws NullPointerException if {@code test} is null.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        return test.length() >= minLength && test.length() <= maxLength
+                && consistsOf(test, 0, ValidationUtil::isDigit);
+    }
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code pattern}.
+     *
+     * @throws NullPointerException if {@code test} is null.
+     */
+    public static boolean matches(Pattern pattern, String test) {
+        return pattern.matcher(test).matches();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -15,6 +16,7 @@ import seedu.address.model.Account;
 import seedu.address.model.ReadOnlyAccountBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
 
 /**
  * API of the Logic component
@@ -29,6 +31,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException, InvalidAccessRightsException;
 
+    /**
+     * Sets the handler that is given the error message whenever saving the address book fails.
+     * Saves happen in the background after commands return, so the handler is called on the saving thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Saves any changes to the address book that have not been saved yet, blocking until they are written.
+     */
+    void flush();
+
     /**
      * Returns the AddressBook.
      *
@@ -39,6 +52,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the persons in the AddressBook grouped by status.
+     *
+     * @see seedu.address.model.Model#getStatusIndex()
+     */
+    StatusIndex getStatusIndex();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.commands.CreateUserCommand.MESSAGE_BLANK_FIELDS;
 import static seedu.address.logic.commands.CreateUserCommand.MESSAGE_SUCCESS;
 import static seedu.address.logic.commands.CreateUserCommand.MESSAGE_WHITESPACE;
@@ -8,8 +9,11 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -25,7 +29,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAccountBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -41,6 +47,11 @@ public class LogicManager implements Logic {
     private Storage storage;
     private AddressBookParser addressBookParser;
 
+    private WriteBehindAddressBookSaver addressBookSaver;
+    // Also set on the saving thread, when a save fails
+    private volatile boolean isAddressBookDirty = false;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
     private Boolean isLoggedIn = false;
     private Boolean isAdmin = false;
 
@@ -51,6 +62,9 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        addressBookSaver = new WriteBehindAddressBookSaver(storage, this::reportSaveFailure);
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                isAddressBookDirty = true);
     }
 
     public LogicManager() {
@@ -70,15 +84,50 @@ public class LogicManager implements Logic {
             this.logUserOut();
         }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        saveAddressBookIfDirty();
+        return commandResult;
+    }
+
+    /**
+     * Schedules a copy of the address book to be saved in the background if it has changed since it was last saved.
+     * Commands that do not modify the address book, such as {@code list} and {@code find}, do not cause a save.
+     */
+    private void saveAddressBookIfDirty() {
+        if (!isAddressBookDirty) {
+            return;
         }
+        isAddressBookDirty = false;
+        // Persons are immutable, so copying the list is enough for the saving thread to see a consistent state
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(model.getAddressBook().getPersonList()));
+        addressBookSaver.requestSave(() -> persons);
+    }
 
-        return commandResult;
+    /**
+     * Marks the address book as not saved, so that it is saved again after the next command or when flushed, and
+     * passes the message describing {@code e} to the save failure handler.
+     * Called on the saving thread.
+     */
+    private void reportSaveFailure(IOException e) {
+        isAddressBookDirty = true;
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        saveFailureHandler.accept(message);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flush() {
+        // Saves still in progress are waited for first, as any of them that fails has to be retried
+        addressBookSaver.flush();
+        saveAddressBookIfDirty();
+        addressBookSaver.flush();
     }
 
     @Override
@@ -91,6 +140,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public StatusIndex getStatusIndex() {
+        return model.getStatusIndex();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
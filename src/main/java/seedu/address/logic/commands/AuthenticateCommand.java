@@ -56,7 +56,7 @@ public class AuthenticateCommand {
         if (!accountsIT.isEmpty()) {
             for (Account account : accountsIT) {
                 if (account.getUsername().equals(usernameInput) && account.getPassword().equals(passwordInput)) {
-                    logger.info(account.getUsername() + " " + account.getPassword());
+                    logger.info("Logged in as " + account.getUsername());
                     logic.logUserIn("Admin");
                     return MESSAGE_SUCCESS;
                 }
@@ -72,8 +72,6 @@ public class AuthenticateCommand {
      */
     public ArrayList<Account> retrieveAccount(Logic logic) {
         logger.info("Retrieving accounts from the logic");
-        ArrayList<Account> accounts = logic.getAccountList();
-        logger.info(accounts.get(0).getUsername() + " " + accounts.get(0).getPassword());
         return logic.getAccountList();
     }
 }
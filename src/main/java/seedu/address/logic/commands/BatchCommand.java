@@ -0,0 +1,164 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.InvalidAccessRightsException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs the commands in a script file, one per line, as a single change to the address book.
+ * The script is run on a best-effort basis: lines that fail are reported and skipped, and the changes made by the
+ * other lines are kept and saved together once the whole script has run. If the script cannot be read to the end,
+ * or a command fails unexpectedly, every change made by the script is undone instead.
+ */
+public class BatchCommand extends Command {
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one command per line. "
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped. "
+            + "Lines that fail are reported and skipped, and the other lines still take effect.\n"
+            + "Parameters: Absolute path or Relative Path\n"
+            + "Example: " + COMMAND_WORD + " /user/jin/downloads/onboarding.txt";
+
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands from %2$s: %3$d succeeded, %4$d failed";
+    public static final String MESSAGE_READ_FAILURE = "Could not read batch script %1$s: %2$s";
+    public static final String MESSAGE_NOT_SCRIPTABLE = "%1$s cannot be used in a batch script";
+
+    // Commands that only make sense when typed into the app
+    private static final Set<String> COMMAND_WORDS_NOT_SCRIPTABLE = Set.of(COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, LoginCommand.COMMAND_WORD, LogOutCommand.COMMAND_WORD,
+            RegisterCommand.COMMAND_WORD);
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final Path scriptPath;
+
+    public BatchCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        BatchReport report = run(model);
+        StringBuilder feedback = new StringBuilder(getSummary(report));
+        for (String line : report.getLines()) {
+            feedback.append('\n').append(line);
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Runs every command in the script on {@code model}, in order, and returns the outcome of each one.
+     * Each command runs with admin access rights, as only an admin can run this command.
+     * If the script cannot be read, or a command throws a {@code RuntimeException}, the persons in {@code model} are
+     * restored to those before the script was run.
+     *
+     * @throws CommandException if the script cannot be read.
+     */
+    public BatchReport run(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Running batch script " + scriptPath);
+
+        // Persons are immutable, so copying the list is enough to restore the address book
+        List<Person> personsBeforeScript = List.copyOf(model.getAddressBook().getPersonList());
+        try {
+            return runLines(model);
+        } catch (CommandException | RuntimeException e) {
+            if (!model.getAddressBook().getPersonList().equals(personsBeforeScript)) {
+                logger.warning("Undoing the changes made by batch script " + scriptPath);
+                AddressBook addressBookBeforeScript = new AddressBook();
+                addressBookBeforeScript.setPersons(personsBeforeScript);
+                model.setAddressBook(addressBookBeforeScript);
+            }
+            throw e;
+        }
+    }
+
+    private BatchReport runLines(Model model) throws CommandException {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        BatchReport report = new BatchReport();
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.strip();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                try {
+                    String commandWord = getCommandWord(commandText);
+                    if (COMMAND_WORDS_NOT_SCRIPTABLE.contains(commandWord)) {
+                        throw new CommandException(String.format(MESSAGE_NOT_SCRIPTABLE, commandWord));
+                    }
+                    CommandResult result = addressBookParser.parseCommand(commandText).execute(model);
+                    report.addSuccess(lineNumber, result.getFeedbackToUser());
+                } catch (ParseException | CommandException | InvalidAccessRightsException e) {
+                    report.addFailure(lineNumber, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, scriptPath, e.getMessage()), e);
+        }
+
+        logger.info(getSummary(report));
+        return report;
+    }
+
+    /**
+     * Returns a one-line summary of {@code report}.
+     */
+    public String getSummary(BatchReport report) {
+        int commandCount = report.getSuccessCount() + report.getFailureCount();
+        return String.format(MESSAGE_SUMMARY, commandCount, scriptPath, report.getSuccessCount(),
+                report.getFailureCount());
+    }
+
+    private static String getCommandWord(String commandText) {
+        for (int i = 0; i < commandText.length(); i++) {
+            if (Character.isWhitespace(commandText.charAt(i))) {
+                return commandText.substring(0, i);
+            }
+        }
+        return commandText;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof BatchCommand otherBatchCommand)) {
+            return false;
+        }
+
+        return scriptPath.equals(otherBatchCommand.scriptPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The outcome of each command run from a batch script, in the order of the script.
+ */
+public class BatchReport {
+
+    public static final String MESSAGE_LINE_SUCCESS = "Line %1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d failed: %2$s";
+
+    private final List<String> lines = new ArrayList<>();
+    private int successCount = 0;
+    private int failureCount = 0;
+
+    /**
+     * Records that the command on {@code lineNumber} succeeded with the feedback {@code message}.
+     */
+    public void addSuccess(int lineNumber, String message) {
+        lines.add(String.format(MESSAGE_LINE_SUCCESS, lineNumber, message));
+        successCount++;
+    }
+
+    /**
+     * Records that the command on {@code lineNumber} failed with the error {@code message}.
+     */
+    public void addFailure(int lineNumber, String message) {
+        lines.add(String.format(MESSAGE_LINE_FAILURE, lineNumber, message));
+        failureCount++;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the outcome of every command, in the order of the script.
+     */
+    public List<String> getLines() {
+        return Collections.unmodifiableList(lines);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchReport otherReport)) {
+            return false;
+        }
+
+        return lines.equals(otherReport.lines);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("successCount", successCount)
+                .add("failureCount", failureCount)
+                .toString();
+    }
+}
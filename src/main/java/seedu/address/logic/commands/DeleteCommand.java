@@ -2,9 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,23 +15,55 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes a person identified using it's displayed index from the address book.
+ * Deletes persons identified using their displayed indexes, or every person in a filtered list, from the address book.
+ * Several persons are deleted at once, so the address book changes, and is saved, only once.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
+    public static final String KEYWORD_ALL_SHOWN = "all";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the persons identified by the index numbers used in the displayed person list, "
+            + "or every person in the displayed person list while it is filtered.\n"
+            + "Parameters: INDEX (must be a positive integer), a comma-separated list of INDEX or START-END ranges, "
+            + "or " + KEYWORD_ALL_SHOWN + "\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " 3-40,55,60, " + COMMAND_WORD + " "
+            + KEYWORD_ALL_SHOWN;
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d persons";
+    public static final String MESSAGE_ALL_SHOWN_UNFILTERED = "Every person is shown, so " + COMMAND_WORD + " "
+            + KEYWORD_ALL_SHOWN + " would empty the address book. Filter the list first, or use "
+            + ClearCommand.COMMAND_WORD + " to delete every person.";
 
-    private final Index targetIndex;
+    private final List<IndexRange> targetRanges;
+    private final boolean isAllShown;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(IndexRange.of(targetIndex)));
+    }
+
+    /**
+     * Creates a DeleteCommand to delete the persons in {@code targetRanges} of the displayed person list.
+     * The ranges may overlap, in which case each person is deleted once.
+     */
+    public DeleteCommand(List<IndexRange> targetRanges) {
+        this(List.copyOf(targetRanges), false);
+    }
+
+    private DeleteCommand(List<IndexRange> targetRanges, boolean isAllShown) {
+        requireNonNull(targetRanges);
+        this.targetRanges = targetRanges;
+        this.isAllShown = isAllShown;
+    }
+
+    /**
+     * Returns a DeleteCommand that deletes every person in the displayed person list.
+     * The command fails if the list shows every person, so that it never empties the address book by accident.
+     */
+    public static DeleteCommand allShown() {
+        return new DeleteCommand(List.of(), true);
     }
 
     @Override
@@ -36,13 +71,35 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToDelete;
+        if (isAllShown) {
+            if (lastShownList.size() == model.getAddressBook().getPersonList().size()) {
+                throw new CommandException(MESSAGE_ALL_SHOWN_UNFILTERED);
+            }
+            personsToDelete = new ArrayList<>(lastShownList);
+        } else {
+            // Each range is checked against the list before it is expanded, so no range covers more than the list
+            BitSet zeroBasedIndexes = new BitSet(lastShownList.size());
+            for (IndexRange targetRange : targetRanges) {
+                if (targetRange.getEnd().getZeroBased() >= lastShownList.size()) {
+                    throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+                }
+                zeroBasedIndexes.set(targetRange.getStart().getZeroBased(), targetRange.getEnd().getZeroBased() + 1);
+            }
+            personsToDelete = new ArrayList<>(zeroBasedIndexes.cardinality());
+            for (int i = zeroBasedIndexes.nextSetBit(0); i >= 0; i = zeroBasedIndexes.nextSetBit(i + 1)) {
+                personsToDelete.add(lastShownList.get(i));
+            }
+        }
+
+        if (personsToDelete.size() == 1) {
+            Person personToDelete = personsToDelete.get(0);
+            model.deletePerson(personToDelete);
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePerson(personToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+        model.deletePersons(personsToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()));
     }
 
     @Override
@@ -57,13 +114,14 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetRanges.equals(otherDeleteCommand.targetRanges) && isAllShown == otherDeleteCommand.isAllShown;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetRanges", targetRanges)
+                .add("isAllShown", isAllShown)
                 .toString();
     }
 }
@@ -3,7 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
+import java.util.Set;
+
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Status;
 
 /**
@@ -25,7 +28,9 @@ public class FilterStatusCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(person -> person.getStatus().equals(statusToFilter));
+        // The bucket is a live view that the address book keeps in step with its persons
+        Set<Person> personsWithStatus = model.getStatusIndex().getPersons(statusToFilter);
+        model.updateFilteredPersonList(personsWithStatus::contains);
         return new CommandResult("Filtered persons with status: " + statusToFilter);
     }
 
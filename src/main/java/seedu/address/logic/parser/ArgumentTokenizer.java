@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -15,133 +15,112 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    // Each parser tokenizes with the same few prefixes every time, so the trie for a set of prefixes is built once
+    private static final Map<List<Prefix>, PrefixTrie> TRIES = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * A prefix is recognized only where it directly follows a space. If several given prefixes start at the same
+     * place, the longest one is used.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+        PrefixTrie trie = TRIES.computeIfAbsent(List.of(prefixes), PrefixTrie::new);
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+
+        // Scan the string once, closing the current argument's value whenever a new prefix starts
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+        int i = 1;
+        while (i < argsString.length()) {
+            Prefix prefix = argsString.charAt(i - 1) == ' ' ? trie.match(argsString, i) : null;
+            if (prefix == null) {
+                i++;
+                continue;
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPos, i).trim());
+            currentPrefix = prefix;
+            i += prefix.getPrefix().length();
+            valueStartPos = i;
         }
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPos).trim());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * A trie over a set of prefixes, for finding which prefix, if any, starts at a given position in a string.
+     * The trie is not modified once built, so it can be shared between calls.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (prefixString.isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < prefixString.length(); i++) {
+                    node = node.getOrAddChild(prefixString.charAt(i));
+                }
+                node.prefix = prefix;
+            }
         }
 
-        int getStartPosition() {
-            return startPosition;
+        /**
+         * Returns the longest prefix that occurs in {@code text} at {@code index}, or null if there is none.
+         */
+        Prefix match(String text, int index) {
+            Prefix longestMatch = null;
+            Node node = root;
+            for (int i = index; i < text.length(); i++) {
+                node = node.getChild(text.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * A node of the trie. Prefixes are a few characters long, so children are kept in small arrays.
+         */
+        private static class Node {
+            private char[] keys = new char[0];
+            private Node[] children = new Node[0];
+            private Prefix prefix;
+
+            Node getChild(char key) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == key) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+
+            Node getOrAddChild(char key) {
+                Node child = getChild(key);
+                if (child == null) {
+                    child = new Node();
+                    keys = Arrays.copyOf(keys, keys.length + 1);
+                    children = Arrays.copyOf(children, children.length + 1);
+                    keys[keys.length - 1] = key;
+                    children[children.length - 1] = child;
+                }
+                return child;
+            }
         }
     }
 
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        try {
+            Path scriptPath = ParserUtil.parseFilePath(args);
+            return new BatchCommand(scriptPath);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
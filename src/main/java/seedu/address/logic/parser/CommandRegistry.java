@@ -0,0 +1,192 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterStatusCommand;
+import seedu.address.logic.commands.FindByCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogOutCommand;
+import seedu.address.logic.commands.LoginCommand;
+import seedu.address.logic.commands.RegisterCommand;
+import seedu.address.logic.commands.SetStatusCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Holds every command the app understands, keyed by command word.
+ * Each command is registered once, with the syntax of its arguments, a stateless parser that is reused for every
+ * parse, and the access levels allowed to run it.
+ */
+public class CommandRegistry {
+
+    /** Access level of a user who is not logged in. */
+    public static final int ACCESS_LOGGED_OUT = 1;
+    /** Access level of a logged in user without admin rights. */
+    public static final int ACCESS_USER = 1 << 1;
+    /** Access level of a logged in admin. */
+    public static final int ACCESS_ADMIN = 1 << 2;
+
+    private static final int ACCESS_ALL = ACCESS_LOGGED_OUT | ACCESS_USER | ACCESS_ADMIN;
+
+    private static final Map<String, RegisteredCommand> COMMANDS = new HashMap<>();
+    // Every prefix of every command word, for highlighting partially typed commands
+    private static final Set<String> COMMAND_WORD_PREFIXES = new HashSet<>();
+
+    static {
+        register(AddCommand.COMMAND_WORD, ACCESS_ADMIN, new AddCommandParser(), AddCommandParser.getPrefixes());
+        register(EditCommand.COMMAND_WORD, ACCESS_ADMIN, new EditCommandParser(), EditCommandParser.getPrefixes());
+        register(FindByCommand.COMMAND_WORD, ACCESS_ADMIN, new FindByCommandParser(),
+                FindByCommandParser.getPrefixes());
+        register(SetStatusCommand.COMMAND_WORD, ACCESS_ADMIN, new SetStatusCommandParser(),
+                SetStatusCommandParser.getPrefixes());
+        register(FilterStatusCommand.COMMAND_WORD, ACCESS_ADMIN, new FilterStatusCommandParser(),
+                FilterStatusCommandParser.getPrefixes());
+
+        register(DeleteCommand.COMMAND_WORD, CommandSyntax.SINGLE_ARG, ACCESS_ADMIN, new DeleteCommandParser());
+        register(ClearCommand.COMMAND_WORD, CommandSyntax.SINGLE_ARG, ACCESS_ADMIN, args -> new ClearCommand());
+        register(FindCommand.COMMAND_WORD, CommandSyntax.SINGLE_ARG, ACCESS_ADMIN, new FindCommandParser());
+        register(ImportCommand.COMMAND_WORD, CommandSyntax.SINGLE_ARG, ACCESS_ADMIN, new ImportCommandParser());
+        register(BatchCommand.COMMAND_WORD, CommandSyntax.SINGLE_ARG, ACCESS_ADMIN, new BatchCommandParser());
+
+        register(ListCommand.COMMAND_WORD, CommandSyntax.STANDALONE, ACCESS_ADMIN, args -> new ListCommand());
+        register(ExitCommand.COMMAND_WORD, CommandSyntax.STANDALONE, ACCESS_ALL, args -> new ExitCommand());
+        register(HelpCommand.COMMAND_WORD, CommandSyntax.STANDALONE, ACCESS_ALL, args -> new HelpCommand());
+        register(LoginCommand.COMMAND_WORD, CommandSyntax.STANDALONE, ACCESS_LOGGED_OUT, args -> new LoginCommand());
+        register(LogOutCommand.COMMAND_WORD, CommandSyntax.STANDALONE, ACCESS_ADMIN, args -> new LogOutCommand());
+        register(RegisterCommand.COMMAND_WORD, CommandSyntax.STANDALONE, ACCESS_ALL,
+                args -> new RegisterCommand());
+    }
+
+    private CommandRegistry() {}
+
+    /**
+     * How the arguments after a command word are written.
+     */
+    public enum CommandSyntax {
+        /** No arguments. */
+        STANDALONE,
+        /** A single argument without any prefix. */
+        SINGLE_ARG,
+        /** One or more prefixed arguments. */
+        PREFIXED
+    }
+
+    private static void register(String commandWord, int accessMask, Parser<? extends Command> parser,
+            Prefix... prefixes) {
+        register(new RegisteredCommand(commandWord, CommandSyntax.PREFIXED, accessMask, parser, List.of(prefixes)));
+    }
+
+    private static void register(String commandWord, CommandSyntax syntax, int accessMask,
+            Parser<? extends Command> parser) {
+        register(new RegisteredCommand(commandWord, syntax, accessMask, parser, List.of()));
+    }
+
+    private static void register(RegisteredCommand command) {
+        if (COMMANDS.putIfAbsent(command.getCommandWord(), command) != null) {
+            throw new IllegalStateException("Command word registered twice: " + command.getCommandWord());
+        }
+        for (int i = 0; i <= command.getCommandWord().length(); i++) {
+            COMMAND_WORD_PREFIXES.add(command.getCommandWord().substring(0, i));
+        }
+    }
+
+    /**
+     * Returns the command registered under {@code commandWord}, if there is one.
+     */
+    public static Optional<RegisteredCommand> find(String commandWord) {
+        return Optional.ofNullable(COMMANDS.get(commandWord));
+    }
+
+    /**
+     * Returns true if {@code text} is a command word, or the start of one.
+     */
+    public static boolean isCommandWordPrefix(String text) {
+        return COMMAND_WORD_PREFIXES.contains(text);
+    }
+
+    /**
+     * Returns every registered command word.
+     */
+    public static Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(COMMANDS.keySet());
+    }
+
+    /**
+     * Returns the access level of a user with the given login state.
+     */
+    public static int getAccessLevel(boolean isAdmin, boolean isLoggedIn) {
+        if (!isLoggedIn) {
+            return ACCESS_LOGGED_OUT;
+        }
+        return isAdmin ? ACCESS_ADMIN : ACCESS_USER;
+    }
+
+    /**
+     * A command word together with everything needed to parse it and decide who may run it.
+     */
+    public static class RegisteredCommand {
+        private final String commandWord;
+        private final CommandSyntax syntax;
+        private final int accessMask;
+        private final Parser<? extends Command> parser;
+        private final List<Prefix> prefixes;
+
+        private RegisteredCommand(String commandWord, CommandSyntax syntax, int accessMask,
+                Parser<? extends Command> parser, List<Prefix> prefixes) {
+            requireAllNonNull(commandWord, syntax, parser, prefixes);
+            this.commandWord = commandWord;
+            this.syntax = syntax;
+            this.accessMask = accessMask;
+            this.parser = parser;
+            this.prefixes = prefixes;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public CommandSyntax getSyntax() {
+            return syntax;
+        }
+
+        /**
+         * Returns the prefixes of the command's arguments, which is empty unless the command is prefixed.
+         */
+        public List<Prefix> getPrefixes() {
+            return prefixes;
+        }
+
+        /**
+         * Returns true if a user with {@code accessLevel} may run the command.
+         */
+        public boolean isAllowedFor(int accessLevel) {
+            return (accessMask & accessLevel) != 0;
+        }
+
+        /**
+         * Parses {@code arguments} into the command.
+         *
+         * @throws ParseException if {@code arguments} does not conform the expected format
+         */
+        public Command parse(String arguments) throws ParseException {
+            return parser.parse(arguments);
+        }
+    }
+}
@@ -4,11 +4,14 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -29,6 +32,11 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_FILE_PATH = "File path is invalid.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "Index range must be of the form START-END, "
+            + "where START and END are non-zero unsigned integers and START is not greater than END.";
+
+    private static final String INDEX_LIST_SEPARATOR = ",";
+    private static final String INDEX_RANGE_SEPARATOR = "-";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
@@ -46,6 +54,40 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, a comma-separated list of indexes and ranges of indexes such as
+     * {@code 3-40,55,60}, into one {@code IndexRange} per index or range, in the order given.
+     * Ranges are not expanded, so they may overlap and may be arbitrarily large.
+     * Leading and trailing whitespaces of each index will be trimmed.
+     *
+     * @throws ParseException if any index or range is invalid.
+     */
+    public static List<IndexRange> parseIndexRanges(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        List<IndexRange> ranges = new ArrayList<>();
+        for (String part : oneBasedIndexes.split(INDEX_LIST_SEPARATOR, -1)) {
+            int separatorIndex = part.indexOf(INDEX_RANGE_SEPARATOR);
+            if (separatorIndex == -1) {
+                ranges.add(IndexRange.of(parseIndex(part)));
+                continue;
+            }
+
+            Index start;
+            Index end;
+            try {
+                start = parseIndex(part.substring(0, separatorIndex));
+                end = parseIndex(part.substring(separatorIndex + 1));
+            } catch (ParseException pe) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE, pe);
+            }
+            if (start.getZeroBased() > end.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            ranges.add(IndexRange.of(start, end));
+        }
+        return ranges;
+    }
+
     /**
      * Parses {@code String filePath} into a {@code Path} and returns it. Leading and
      * trailing whitespaces will be
@@ -74,7 +116,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.ofValidated(trimmedName);
     }
 
     /**
@@ -89,7 +131,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.ofValidated(trimmedPhone);
     }
 
     /**
@@ -104,7 +146,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.ofValidated(trimmedAddress);
     }
 
     /**
@@ -119,7 +161,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return Email.ofValidated(trimmedEmail);
     }
 
     /**
@@ -134,7 +176,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.ofValidated(trimmedTag);
     }
 
     /**
@@ -176,7 +218,7 @@ public class ParserUtil {
         if (!OrgID.isValidOrgID(trimmedOrgId)) {
             throw new ParseException(OrgID.MESSAGE_CONSTRAINTS);
         }
-        return new OrgID(trimmedOrgId);
+        return OrgID.ofValidated(trimmedOrgId);
     }
 
     /**
@@ -191,6 +233,6 @@ public class ParserUtil {
         if (!DeviceInfo.isValidDeviceInfo(trimmedDeviceInfo)) {
             throw new ParseException(DeviceInfo.MESSAGE_CONSTRAINTS);
         }
-        return new DeviceInfo(trimmedDeviceInfo);
+        return DeviceInfo.ofValidated(trimmedDeviceInfo);
     }
 }
@@ -2,11 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -17,6 +26,13 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    // Each index is built from the persons when it is first asked for, and kept up to date from then on, so that
+    // address books that are only read, copied or saved, such as those passed through storage, never build them.
+    private NameIndex nameIndex;
+    private TrigramIndex trigramIndex;
+    private StatusIndex statusIndex;
+    private TagIndex tagIndex;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -26,6 +42,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        // Registered before any view of the person list is created, so that the indexes are already up to date
+        // when those views re-evaluate their predicates on the same change.
+        persons.asUnmodifiableObservableList().addListener(this::updateIndexes);
     }
 
     public AddressBook() {}
@@ -50,10 +69,16 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is an {@code AddressBook}, its persons are already known to be unique and are copied
+     * without being checked again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook otherAddressBook) {
+            persons.setPersons(otherAddressBook.persons);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -94,6 +119,133 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} at once.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
+    /**
+     * Returns the index of the words in the names of the persons in this address book, building it on first use.
+     */
+    public NameIndex getNameIndex() {
+        if (nameIndex == null) {
+            nameIndex = new NameIndex();
+            getPersonList().forEach(nameIndex::add);
+        }
+        return nameIndex;
+    }
+
+    /**
+     * Returns the index of the trigrams in the searchable fields of the persons in this address book, building it on
+     * first use.
+     */
+    public TrigramIndex getTrigramIndex() {
+        if (trigramIndex == null) {
+            trigramIndex = new TrigramIndex();
+            getPersonList().forEach(trigramIndex::add);
+        }
+        return trigramIndex;
+    }
+
+    /**
+     * Returns the index of the persons in this address book grouped by status, building it on first use.
+     */
+    public StatusIndex getStatusIndex() {
+        if (statusIndex == null) {
+            statusIndex = new StatusIndex();
+            getPersonList().forEach(statusIndex::add);
+        }
+        return statusIndex;
+    }
+
+    /**
+     * Returns the index of the tags of the persons in this address book, building it on first use.
+     */
+    public TagIndex getTagIndex() {
+        if (tagIndex == null) {
+            tagIndex = new TagIndex();
+            tagIndex.setPersons(getPersonList());
+        }
+        return tagIndex;
+    }
+
+    /**
+     * Applies the persons removed and added by {@code change} to the indexes of this address book.
+     */
+    private void updateIndexes(ListChangeListener.Change<? extends Person> change) {
+        if (nameIndex == null && trigramIndex == null && statusIndex == null && tagIndex == null) {
+            return;
+        }
+        while (change.next()) {
+            boolean isWholeListReplaced = change.getFrom() == 0 && change.getAddedSize() == change.getList().size();
+            if (isWholeListReplaced && tagIndex != null) {
+                tagIndex.setPersons(change.getList());
+            }
+            // Persons that are both removed and added, such as those kept when the list is rebuilt, are unchanged
+            Set<Person> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (change.wasReplaced()) {
+                Set<Person> added = Collections.newSetFromMap(new IdentityHashMap<>());
+                added.addAll(change.getAddedSubList());
+                for (Person removed : change.getRemoved()) {
+                    if (added.contains(removed)) {
+                        kept.add(removed);
+                    }
+                }
+            }
+            for (Person removed : change.getRemoved()) {
+                if (!kept.contains(removed)) {
+                    removeFromIndexes(removed, !isWholeListReplaced);
+                }
+            }
+            for (Person added : change.getAddedSubList()) {
+                if (!kept.contains(added)) {
+                    addToIndexes(added, !isWholeListReplaced);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from the indexes that have been built, leaving out the tag index unless
+     * {@code isTagIndexUpdated}.
+     */
+    private void removeFromIndexes(Person person, boolean isTagIndexUpdated) {
+        if (nameIndex != null) {
+            nameIndex.remove(person);
+        }
+        if (trigramIndex != null) {
+            trigramIndex.remove(person);
+        }
+        if (statusIndex != null) {
+            statusIndex.remove(person);
+        }
+        if (tagIndex != null && isTagIndexUpdated) {
+            tagIndex.remove(person);
+        }
+    }
+
+    /**
+     * Adds {@code person} to the indexes that have been built, leaving out the tag index unless
+     * {@code isTagIndexUpdated}.
+     */
+    private void addToIndexes(Person person, boolean isTagIndexUpdated) {
+        if (nameIndex != null) {
+            nameIndex.add(person);
+        }
+        if (trigramIndex != null) {
+            trigramIndex.add(person);
+        }
+        if (statusIndex != null) {
+            statusIndex.add(person);
+        }
+        if (tagIndex != null && isTagIndexUpdated) {
+            tagIndex.add(person);
+        }
+    }
+
     //// util methods
 
     @Override
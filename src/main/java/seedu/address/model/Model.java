@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.person.TrigramIndex;
 
 /**
  * The API of the Model component.
@@ -68,6 +73,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all of the given persons at once.
+     * Every person in {@code targets} must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -81,6 +92,26 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the index of the words in the names of the persons in the address book.
+     */
+    NameIndex getNameIndex();
+
+    /**
+     * Returns the index of the trigrams in the searchable fields of the persons in the address book.
+     */
+    TrigramIndex getTrigramIndex();
+
+    /**
+     * Returns the index of the persons in the address book grouped by status.
+     */
+    StatusIndex getStatusIndex();
+
+    /**
+     * Returns the index of the tags of the persons in the address book.
+     */
+    TagIndex getTagIndex();
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
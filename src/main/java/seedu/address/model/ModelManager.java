@@ -5,6 +5,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,7 +16,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.person.TrigramIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,6 +34,9 @@ public class ModelManager implements Model {
     private final AccountBook accountBook;
     private final ArrayList<Account> accounts;
 
+    private Predicate<Person> currentPredicate;
+    private Set<Person> narrowedPersons;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -118,6 +129,12 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
@@ -130,6 +147,26 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public NameIndex getNameIndex() {
+        return addressBook.getNameIndex();
+    }
+
+    @Override
+    public TrigramIndex getTrigramIndex() {
+        return addressBook.getTrigramIndex();
+    }
+
+    @Override
+    public StatusIndex getStatusIndex() {
+        return addressBook.getStatusIndex();
+    }
+
+    @Override
+    public TagIndex getTagIndex() {
+        return addressBook.getTagIndex();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -141,10 +178,32 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * If {@code predicate} is a {@code RefiningPredicate} that refines the current filter, it is only evaluated on the
+     * persons that are currently shown. All other persons are rejected without evaluating it.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        boolean isRefinement = currentPredicate != null && predicate instanceof RefiningPredicate<Person> refining
+                && refining.isRefinementOf(currentPredicate);
+        currentPredicate = predicate;
+        if (!isRefinement) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        // FilteredList re-tests every person when its predicate is replaced, so the persons that are not shown are
+        // rejected up front while narrowing. Afterwards, persons that are added or changed are tested in full.
+        narrowedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        narrowedPersons.addAll(filteredPersons);
+        try {
+            filteredPersons.setPredicate(person -> (narrowedPersons == null || narrowedPersons.contains(person))
+                    && predicate.test(person));
+        } finally {
+            narrowedPersons = null;
+        }
     }
 
     @Override
@@ -0,0 +1,17 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that can tell when it accepts no more than another predicate does.
+ * When a filter is replaced by one that refines it, only the elements that passed the old filter need to be tested
+ * against the new one.
+ */
+public interface RefiningPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if every element that passes this predicate is known to also pass {@code other}.
+     * Returning false is always safe, and only costs a full re-evaluation.
+     */
+    boolean isRefinementOf(Predicate<T> other);
+}
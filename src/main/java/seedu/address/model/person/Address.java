@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -16,25 +21,43 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
+    private String searchKey;
+
     /**
      * Constructs an {@code Address}.
      *
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    private Address(String address, boolean isValidated) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidAddress(address) : MESSAGE_CONSTRAINTS;
+        } else {
+            checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        }
         value = address;
     }
 
+    /**
+     * Returns a {@code Address} of {@code address}, which must already be known to be valid, without checking it again.
+     */
+    public static Address ofValidated(String address) {
+        return new Address(address, true);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
     @Override
@@ -42,6 +65,17 @@ public class Address {
         return value;
     }
 
+    /**
+     * Returns the upper-cased form of this {@code Address} used for case-insensitive search.
+     * It is computed on first use and cached, as the value never changes.
+     */
+    public String getSearchKey() {
+        if (searchKey == null) {
+            searchKey = StringUtil.toSearchKey(value);
+        }
+        return searchKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIXES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEVICEINFO;
@@ -7,56 +8,145 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.RefiningPredicate;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that any of a {@code Person}'s name, phone, email, address, OrgID, device info or tags contains, ignoring case,
+ * one of the keywords given for that attribute's prefix.
+ * The keywords are compiled once into an {@code AttributeQueryPlan}, which each person is checked against.
+ * If the predicate is backed by a {@code TrigramIndex} and a {@code TagIndex}, and every keyword can be looked up in
+ * them, the candidates are the persons the trigram index returns for each field keyword, together with the persons
+ * with a tag containing a tag keyword. Only the candidates are checked against the plan; all other persons are
+ * rejected without examining their attributes. Otherwise every person is checked against the plan.
  */
-public class AttributeContainsKeywordsPredicate implements Predicate<Person> {
+public class AttributeContainsKeywordsPredicate implements RefiningPredicate<Person> {
+    private static final Map<Prefix, TrigramIndex.Field> INDEXED_FIELDS = Map.of(
+            PREFIX_NAME, TrigramIndex.Field.NAME,
+            PREFIX_PHONE, TrigramIndex.Field.PHONE,
+            PREFIX_EMAIL, TrigramIndex.Field.EMAIL,
+            PREFIX_ADDRESS, TrigramIndex.Field.ADDRESS,
+            PREFIX_ORGID, TrigramIndex.Field.ORGID,
+            PREFIX_DEVICEINFO, TrigramIndex.Field.DEVICEINFO);
+
     private final ArgumentMultimap attributeKeywordMap;
+    private final TrigramIndex trigramIndex;
+    private final TagIndex tagIndex;
+    private final boolean isIndexed;
+
+    private AttributeQueryPlan plan;
+    private Set<Person> candidates;
+    private int candidatesTrigramModificationCount;
+    private int candidatesTagModificationCount;
 
     public AttributeContainsKeywordsPredicate(ArgumentMultimap attributeKeywordMap) {
+        this(attributeKeywordMap, null, null);
+    }
+
+    private AttributeContainsKeywordsPredicate(ArgumentMultimap attributeKeywordMap, TrigramIndex trigramIndex,
+            TagIndex tagIndex) {
         this.attributeKeywordMap = attributeKeywordMap;
+        this.trigramIndex = trigramIndex;
+        this.tagIndex = tagIndex;
+        this.isIndexed = trigramIndex != null && tagIndex != null && areAllKeywordsIndexable(attributeKeywordMap);
+    }
+
+    /**
+     * Returns true if every keyword in {@code attributeKeywordMap} can be looked up in the indexes.
+     * Otherwise, the keywords that cannot be looked up may match any person, and every person has to be checked.
+     */
+    private static boolean areAllKeywordsIndexable(ArgumentMultimap attributeKeywordMap) {
+        for (Prefix prefix : PREFIXES) {
+            if (prefix == PREFIX_TAG) {
+                continue;
+            }
+            for (String keyword : attributeKeywordMap.getAllValues(prefix)) {
+                if (!INDEXED_FIELDS.containsKey(prefix) || !TrigramIndex.isIndexable(keyword)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a predicate with the same keywords that narrows down the persons to check through {@code trigramIndex}
+     * and {@code tagIndex}.
+     * Only persons tracked by both indexes should be tested against the returned predicate.
+     */
+    public AttributeContainsKeywordsPredicate withIndexes(TrigramIndex trigramIndex, TagIndex tagIndex) {
+        requireAllNonNull(trigramIndex, tagIndex);
+        return new AttributeContainsKeywordsPredicate(attributeKeywordMap, trigramIndex, tagIndex);
     }
 
     @Override
     public boolean test(Person person) {
+        if (isIndexed && !getCandidates().contains(person)) {
+            return false;
+        }
+        return getPlan().matches(person);
+    }
+
+    /**
+     * Returns true if {@code other} is also an {@code AttributeContainsKeywordsPredicate}, and each keyword of this
+     * predicate contains a keyword of {@code other} with the same prefix, ignoring case.
+     */
+    @Override
+    public boolean isRefinementOf(Predicate<Person> other) {
+        if (!(other instanceof AttributeContainsKeywordsPredicate otherPredicate)) {
+            return false;
+        }
+        return getPlan().isRefinementOf(otherPredicate.getPlan());
+    }
+
+    /**
+     * Returns the keywords compiled into an {@code AttributeQueryPlan}, compiling them on first use.
+     */
+    private AttributeQueryPlan getPlan() {
+        if (plan == null) {
+            plan = AttributeQueryPlan.compile(attributeKeywordMap);
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the persons that may match the keywords according to the indexes, recomputing them if the indexes
+     * have changed since they were last computed.
+     */
+    private Set<Person> getCandidates() {
+        if (candidates != null && candidatesTrigramModificationCount == trigramIndex.getModificationCount()
+                && candidatesTagModificationCount == tagIndex.getModificationCount()) {
+            return candidates;
+        }
+
+        Set<Person> newCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        BitSet personsWithMatchingTags = new BitSet();
         for (Prefix prefix : PREFIXES) {
-            if (attributeKeywordMap.getAllValues(prefix).stream().anyMatch(keyword -> {
-                if (prefix == PREFIX_NAME) {
-                    return StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword);
-                } else if (prefix == PREFIX_EMAIL) {
-                    return StringUtil.containsSubstringIgnoreCase(person.getEmail().value, keyword);
-                } else if (prefix == PREFIX_PHONE) {
-                    return StringUtil.containsSubstringIgnoreCase(person.getPhone().value, keyword);
-                } else if (prefix == PREFIX_ADDRESS) {
-                    return StringUtil.containsSubstringIgnoreCase(person.getAddress().value, keyword);
-                } else if (prefix == PREFIX_STATUS) {
-                    return StringUtil.containsSubstringIgnoreCase(person.getStatus().toString(), keyword);
-                } else if (prefix == PREFIX_ORGID) {
-                    return StringUtil.containsSubstringIgnoreCase(person.getOrgID().value, keyword);
-                } else if (prefix == PREFIX_DEVICEINFO) {
-                    return StringUtil.containsSubstringIgnoreCase(person.getDeviceInfo().deviceInfo, keyword);
-                } else if (prefix == PREFIX_TAG) {
-                    return person.getTags().stream()
-                            .anyMatch(tag -> StringUtil.containsSubstringIgnoreCase(tag.tagName, keyword));
+            for (String keyword : attributeKeywordMap.getAllValues(prefix)) {
+                if (prefix == PREFIX_TAG) {
+                    personsWithMatchingTags.or(tagIndex.getPersonsWithTagContaining(keyword));
+                } else {
+                    newCandidates.addAll(trigramIndex.getCandidates(INDEXED_FIELDS.get(prefix), keyword));
                 }
-
-                assert false : String.format("The prefix %s is not handled in the predicate", prefix);
-                return false;
-            })) {
-                return true;
             }
         }
-        return false;
+        newCandidates.addAll(tagIndex.getPersons(personsWithMatchingTags));
+
+        candidates = newCandidates;
+        candidatesTrigramModificationCount = trigramIndex.getModificationCount();
+        candidatesTagModificationCount = tagIndex.getModificationCount();
+        return candidates;
     }
 
     @Override
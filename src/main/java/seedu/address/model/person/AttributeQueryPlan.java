@@ -0,0 +1,165 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEVICEINFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.commons.util.AhoCorasickMatcher;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable, compiled form of the keywords in an {@code ArgumentMultimap}, for matching against many persons.
+ * Each prefix with keywords becomes a clause holding the extractor of the searched attribute and the keywords
+ * normalised by {@link StringUtil#toSearchNeedle(String)}. Prefixes without keywords are left out of the plan.
+ * A person matches the plan if the attribute of any clause contains any of its keywords, ignoring case.
+ * Clauses with many keywords match them all in a single scan of the attribute with an {@code AhoCorasickMatcher}.
+ */
+public class AttributeQueryPlan {
+    private static final Map<Prefix, Function<Person, String>> SEARCH_KEY_EXTRACTORS = Map.of(
+            PREFIX_NAME, person -> person.getName().getSearchKey(),
+            PREFIX_PHONE, person -> person.getPhone().getSearchKey(),
+            PREFIX_EMAIL, person -> person.getEmail().getSearchKey(),
+            PREFIX_ADDRESS, person -> person.getAddress().getSearchKey(),
+            PREFIX_STATUS, person -> person.getStatus().getSearchKey(),
+            PREFIX_ORGID, person -> person.getOrgID().getSearchKey(),
+            PREFIX_DEVICEINFO, person -> person.getDeviceInfo().getSearchKey());
+
+    private final Clause[] clauses;
+
+    private AttributeQueryPlan(Clause[] clauses) {
+        this.clauses = clauses;
+    }
+
+    /**
+     * Compiles the keywords of every prefix in {@code attributeKeywordMap} into a plan, in the order of
+     * {@code PREFIXES}.
+     *
+     * @throws IllegalArgumentException if any keyword is blank.
+     */
+    public static AttributeQueryPlan compile(ArgumentMultimap attributeKeywordMap) {
+        requireNonNull(attributeKeywordMap);
+        List<Clause> clauses = new ArrayList<>();
+        for (Prefix prefix : PREFIXES) {
+            List<String> keywords = attributeKeywordMap.getAllValues(prefix);
+            if (keywords.isEmpty()) {
+                continue;
+            }
+            String[] needles = new String[keywords.size()];
+            for (int i = 0; i < needles.length; i++) {
+                needles[i] = StringUtil.toSearchNeedle(keywords.get(i));
+            }
+            assert prefix == PREFIX_TAG || SEARCH_KEY_EXTRACTORS.containsKey(prefix)
+                    : String.format("The prefix %s is not handled in the plan", prefix);
+            clauses.add(new Clause(prefix, SEARCH_KEY_EXTRACTORS.get(prefix), needles));
+        }
+        return new AttributeQueryPlan(clauses.toArray(new Clause[0]));
+    }
+
+    /**
+     * Returns true if {@code person} matches any clause of this plan.
+     */
+    public boolean matches(Person person) {
+        for (Clause clause : clauses) {
+            if (clause.matches(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if every person matching this plan also matches {@code other}.
+     * That is the case when each keyword of this plan contains a keyword of {@code other} with the same prefix, as an
+     * attribute containing the former then also contains the latter.
+     */
+    public boolean isRefinementOf(AttributeQueryPlan other) {
+        requireNonNull(other);
+        for (Clause clause : clauses) {
+            Clause otherClause = other.getClause(clause.prefix);
+            if (otherClause == null) {
+                return false;
+            }
+            for (String needle : clause.needles) {
+                if (!otherClause.isContainedIn(needle)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private Clause getClause(Prefix prefix) {
+        for (Clause clause : clauses) {
+            if (clause.prefix.equals(prefix)) {
+                return clause;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The normalised keywords of a single prefix, and how to read the attribute they are searched for in.
+     */
+    private static class Clause {
+        private final Prefix prefix;
+        private final Function<Person, String> searchKeyExtractor;
+        private final String[] needles;
+        private final AhoCorasickMatcher matcher;
+
+        Clause(Prefix prefix, Function<Person, String> searchKeyExtractor, String[] needles) {
+            this.prefix = prefix;
+            this.searchKeyExtractor = searchKeyExtractor;
+            this.needles = needles;
+            this.matcher = needles.length >= AhoCorasickMatcher.MIN_PATTERN_COUNT
+                    ? AhoCorasickMatcher.forSubstrings(Arrays.asList(needles))
+                    : null;
+        }
+
+        boolean matches(Person person) {
+            if (prefix == PREFIX_TAG) {
+                for (Tag tag : person.getTags()) {
+                    if (containsAnyNeedle(tag.getSearchKey())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return containsAnyNeedle(searchKeyExtractor.apply(person));
+        }
+
+        /**
+         * Returns true if any needle of this clause is contained in {@code needle}.
+         */
+        boolean isContainedIn(String needle) {
+            return containsAnyNeedle(needle);
+        }
+
+        private boolean containsAnyNeedle(String searchKey) {
+            if (matcher != null) {
+                return matcher.matches(searchKey);
+            }
+            for (String needle : needles) {
+                if (StringUtil.containsNormalizedSubstring(searchKey, needle)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -5,6 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's deviceInfo in the system.
  * Guarantees: immutable; is valid as declared in
@@ -15,30 +18,65 @@ public class DeviceInfo {
             + "alphanumeric characters and spaces, "
             + "and it should not be blank or exceed 50 characters.";
     public static final String VALIDATION_REGEX = "[a-zA-Z0-9\\s]+";
+    private static final int MAX_LENGTH = 50;
     public final String deviceInfo;
 
+    private String searchKey;
+
     /**
      * Constructs a {@code DeviceInfo}.
      *
      * @param deviceInfo A valid device info.
      */
     public DeviceInfo(String deviceInfo) {
+        this(deviceInfo, false);
+    }
+
+    private DeviceInfo(String deviceInfo, boolean isValidated) {
         requireNonNull(deviceInfo);
-        checkArgument(isValidDeviceInfo(deviceInfo), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidDeviceInfo(deviceInfo) : MESSAGE_CONSTRAINTS;
+        } else {
+            checkArgument(isValidDeviceInfo(deviceInfo), MESSAGE_CONSTRAINTS);
+        }
         this.deviceInfo = deviceInfo;
     }
 
+    /**
+     * Returns a {@code DeviceInfo} of {@code deviceInfo}, which must already be known to be valid, without checking
+     * it again.
+     */
+    public static DeviceInfo ofValidated(String deviceInfo) {
+        return new DeviceInfo(deviceInfo, true);
+    }
+
     /**
      * Returns true if a given string is a valid device info.
      */
     public static boolean isValidDeviceInfo(String test) {
-        return test != null && test.matches(VALIDATION_REGEX) && test.length() <= 50;
+        return test != null && !test.isEmpty() && test.length() <= MAX_LENGTH
+                && ValidationUtil.consistsOf(test, 0, DeviceInfo::isDeviceInfoCharacter);
+    }
+
+    private static boolean isDeviceInfoCharacter(int c) {
+        return ValidationUtil.isAlphanumeric(c) || ValidationUtil.isWhitespace(c);
     }
 
     public String getDeviceInfo() {
         return deviceInfo;
     }
 
+    /**
+     * Returns the upper-cased form of this {@code DeviceInfo} used for case-insensitive search.
+     * It is computed on first use and cached, as the value never changes.
+     */
+    public String getSearchKey() {
+        if (searchKey == null) {
+            searchKey = StringUtil.toSearchKey(deviceInfo);
+        }
+        return searchKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
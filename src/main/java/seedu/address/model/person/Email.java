@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -30,25 +35,43 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
+    private String searchKey;
+
     /**
      * Constructs an {@code Email}.
      *
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isValidated) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidEmail(email) : MESSAGE_CONSTRAINTS;
+        } else {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns a {@code Email} of {@code email}, which must already be known to be valid, without checking it again.
+     */
+    public static Email ofValidated(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
     @Override
@@ -56,6 +79,17 @@ public class Email {
         return value;
     }
 
+    /**
+     * Returns the upper-cased form of this {@code Email} used for case-insensitive search.
+     * It is computed on first use and cached, as the value never changes.
+     */
+    public String getSearchKey() {
+        if (searchKey == null) {
+            searchKey = StringUtil.toSearchKey(value);
+        }
+        return searchKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,22 +23,43 @@ public class Name {
 
     public final String fullName;
 
+    private String searchKey;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isValidated) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidName(name) : MESSAGE_CONSTRAINTS;
+        } else {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name}, which must already be known to be valid, without checking it again.
+     */
+    public static Name ofValidated(String name) {
+        return new Name(name, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && test.charAt(0) != ' ' && ValidationUtil.consistsOf(test, 0, Name::isNameCharacter);
+    }
+
+    private static boolean isNameCharacter(int c) {
+        return ValidationUtil.isAlphanumeric(c) || c == ' ' || c == '/' || c == '\'' || c == '-';
     }
 
 
@@ -44,6 +68,17 @@ public class Name {
         return fullName;
     }
 
+    /**
+     * Returns the upper-cased form of this {@code Name} used for case-insensitive search.
+     * It is computed on first use and cached, as the value never changes.
+     */
+    public String getSearchKey() {
+        if (searchKey == null) {
+            searchKey = StringUtil.toSearchKey(fullName);
+        }
+        return searchKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
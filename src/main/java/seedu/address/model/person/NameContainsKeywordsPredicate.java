@@ -1,27 +1,113 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.AhoCorasickMatcher;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefiningPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * If the predicate is backed by a {@code NameIndex}, the matching persons are looked up in the index once, and each
+ * person is only checked against that set instead of splitting every name.
+ * Otherwise, with many keywords, each name is scanned once for all of them with an {@code AhoCorasickMatcher}.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements RefiningPredicate<Person> {
     private final List<String> keywords;
+    private final NameIndex nameIndex;
+
+    private AhoCorasickMatcher matcher;
+    private Set<Person> candidates;
+    private int candidatesModificationCount;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private NameContainsKeywordsPredicate(List<String> keywords, NameIndex nameIndex) {
         this.keywords = keywords;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * Returns a predicate with the same keywords that resolves them through {@code nameIndex}.
+     * Only persons tracked by {@code nameIndex} should be tested against the returned predicate.
+     */
+    public NameContainsKeywordsPredicate withIndex(NameIndex nameIndex) {
+        requireNonNull(nameIndex);
+        return new NameContainsKeywordsPredicate(keywords, nameIndex);
     }
 
     @Override
     public boolean test(Person person) {
+        if (nameIndex != null) {
+            return getCandidates().contains(person);
+        }
+        if (keywords.size() >= AhoCorasickMatcher.MIN_PATTERN_COUNT) {
+            return getMatcher().matches(person.getName().fullName);
+        }
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns true if {@code other} is also a {@code NameContainsKeywordsPredicate}, and each keyword of this
+     * predicate is also one of its keywords, ignoring case.
+     */
+    @Override
+    public boolean isRefinementOf(Predicate<Person> other) {
+        if (!(other instanceof NameContainsKeywordsPredicate otherPredicate)) {
+            return false;
+        }
+        Set<String> otherKeywords = new HashSet<>();
+        for (String keyword : otherPredicate.keywords) {
+            otherKeywords.add(StringUtil.foldCase(keyword.trim()));
+        }
+        for (String keyword : keywords) {
+            if (!otherKeywords.contains(StringUtil.foldCase(keyword.trim()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the keywords compiled into an {@code AhoCorasickMatcher}, compiling them on first use.
+     */
+    private AhoCorasickMatcher getMatcher() {
+        if (matcher == null) {
+            matcher = AhoCorasickMatcher.forWordsIgnoreCase(keywords);
+        }
+        return matcher;
+    }
+
+    /**
+     * Returns the persons whose name contains any of the keywords according to the index, recomputing them if the
+     * index has changed since they were last computed.
+     */
+    private Set<Person> getCandidates() {
+        if (candidates != null && candidatesModificationCount == nameIndex.getModificationCount()) {
+            return candidates;
+        }
+
+        Set<Person> newCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            newCandidates.addAll(nameIndex.getPersons(keyword));
+        }
+
+        candidates = newCandidates;
+        candidatesModificationCount = nameIndex.getModificationCount();
+        return candidates;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the case-folded words of a {@code Person}'s name to the persons whose name contains them.
+ * Words are compared the same way as {@link StringUtil#containsWordIgnoreCase}, so a lookup in this index gives the
+ * same answer as splitting and comparing every name.
+ * Persons are tracked by identity, as the index is kept in step with the entries of a {@code UniquePersonList}.
+ */
+public class NameIndex {
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+    private int modificationCount = 0;
+
+    /**
+     * Adds every word of {@code person}'s name to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : toWords(person.getName().fullName)) {
+            personsByWord.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes every word of {@code person}'s name from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : toWords(person.getName().fullName)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the persons whose name contains {@code word}, ignoring case.
+     * The returned set is a read-only view that is only valid until this index is next modified.
+     */
+    public Set<Person> getPersons(String word) {
+        requireNonNull(word);
+        Set<Person> persons = personsByWord.get(StringUtil.foldCase(word.trim()));
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the number of times this index has been modified.
+     * Results of {@link #getPersons(String)} remain valid for as long as this count does not change.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Splits {@code fullName} on whitespace into case-folded words.
+     */
+    private static Set<String> toWords(String fullName) {
+        Set<String> words = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= fullName.length(); i++) {
+            boolean isBoundary = i == fullName.length() || Character.isWhitespace(fullName.charAt(i));
+            if (isBoundary && start != -1) {
+                words.add(StringUtil.foldCase(fullName.substring(start, i)));
+                start = -1;
+            } else if (!isBoundary && start == -1) {
+                start = i;
+            }
+        }
+        return words;
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Organization's ID in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidOrgID(String)}
@@ -18,25 +21,45 @@ public class OrgID {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "\\d{1,10}";
+    private static final int MAX_DIGITS = 10;
+    private static final String ZERO_PADDING = "0".repeat(MAX_DIGITS);
 
     public final String value;
 
+    private String searchKey;
+
     /**
      * Constructs a {@code OrgID}.
      *
      * @param orgID A valid OrgID.
      */
     public OrgID(String orgID) {
+        this(orgID, false);
+    }
+
+    private OrgID(String orgID, boolean isValidated) {
         requireNonNull(orgID);
-        checkArgument(isValidOrgID(orgID), MESSAGE_CONSTRAINTS);
-        value = String.format("%10s", orgID).replace(" ", "0");
+        if (isValidated) {
+            assert isValidOrgID(orgID) : MESSAGE_CONSTRAINTS;
+        } else {
+            checkArgument(isValidOrgID(orgID), MESSAGE_CONSTRAINTS);
+        }
+        // Stored values are already padded, so they are taken as they are
+        value = orgID.length() == MAX_DIGITS ? orgID : ZERO_PADDING.substring(orgID.length()) + orgID;
+    }
+
+    /**
+     * Returns a {@code OrgID} of {@code orgID}, which must already be known to be valid, without checking it again.
+     */
+    public static OrgID ofValidated(String orgID) {
+        return new OrgID(orgID, true);
     }
 
     /**
      * Returns true if a given string is a valid OrgID.
      */
     public static boolean isValidOrgID(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, 1, MAX_DIGITS);
     }
 
     @Override
@@ -44,6 +67,17 @@ public class OrgID {
         return value;
     }
 
+    /**
+     * Returns the upper-cased form of this {@code OrgID} used for case-insensitive search.
+     * It is computed on first use and cached, as the value never changes.
+     */
+    public String getSearchKey() {
+        if (searchKey == null) {
+            searchKey = StringUtil.toSearchKey(value);
+        }
+        return searchKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
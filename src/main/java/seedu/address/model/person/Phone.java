@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -20,22 +23,39 @@ public class Phone {
 
     public final String value;
 
+    private String searchKey;
+
     /**
      * Constructs a {@code Phone}.
      *
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isValidated) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidPhone(phone) : MESSAGE_CONSTRAINTS;
+        } else {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone}, which must already be known to be valid, without checking it again.
+     */
+    public static Phone ofValidated(String phone) {
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, MIN_DIGITS, MAX_DIGITS);
     }
 
     @Override
@@ -43,6 +63,17 @@ public class Phone {
         return value;
     }
 
+    /**
+     * Returns the upper-cased form of this {@code Phone} used for case-insensitive search.
+     * It is computed on first use and cached, as the value never changes.
+     */
+    public String getSearchKey() {
+        if (searchKey == null) {
+            searchKey = StringUtil.toSearchKey(value);
+        }
+        return searchKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
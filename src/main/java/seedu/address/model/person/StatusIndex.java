@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Status;
+
+/**
+ * Groups persons into one bucket per {@code Status}, so that the persons with a status can be listed and counted
+ * without examining the whole address book.
+ * Persons are tracked by identity, as the index is kept in step with the entries of a {@code UniquePersonList}.
+ */
+public class StatusIndex {
+
+    private final Map<Status, Set<Person>> personsByStatus = new EnumMap<>(Status.class);
+
+    /**
+     * Creates an empty {@code StatusIndex}.
+     */
+    public StatusIndex() {
+        for (Status status : Status.values()) {
+            personsByStatus.put(status, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
+    /**
+     * Adds {@code person} to the bucket of its status.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByStatus.get(person.getStatus()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the bucket of its status.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        personsByStatus.get(person.getStatus()).remove(person);
+    }
+
+    /**
+     * Returns the persons with {@code status}.
+     * The returned set is an unmodifiable view of the bucket, so it reflects later changes to this index.
+     */
+    public Set<Person> getPersons(Status status) {
+        requireNonNull(status);
+        return Collections.unmodifiableSet(personsByStatus.get(status));
+    }
+
+    /**
+     * Returns the number of persons with {@code status}.
+     */
+    public int getCount(Status status) {
+        requireNonNull(status);
+        return personsByStatus.get(status).size();
+    }
+}
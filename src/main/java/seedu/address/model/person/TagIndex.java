@@ -0,0 +1,140 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from each {@code Tag} to the set of persons having it, with the sets stored as bitsets.
+ * Every indexed person is given a small integer id, and the bitset of a tag has the ids of its persons set.
+ * Tag queries can then be combined with {@link BitSet#and(BitSet)}, {@link BitSet#or(BitSet)} and
+ * {@link BitSet#andNot(BitSet)} (against {@link #getAllPersons()} for a negation) instead of scanning the tags of
+ * every person.
+ * Persons are tracked by identity, as the index is kept in step with the entries of a {@code UniquePersonList}.
+ */
+public class TagIndex {
+
+    private final Map<Tag, BitSet> personsByTag = new HashMap<>();
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private final List<Person> personsById = new ArrayList<>();
+    private final BitSet usedIds = new BitSet();
+    private int modificationCount = 0;
+
+    /**
+     * Adds {@code person} to the bitsets of each of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int id = usedIds.nextClearBit(0);
+        usedIds.set(id);
+        ids.put(person, id);
+        if (id == personsById.size()) {
+            personsById.add(person);
+        } else {
+            personsById.set(id, person);
+        }
+
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(id);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code person} from the bitsets of each of its tags, freeing its id for reuse.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer id = ids.remove(person);
+        if (id == null) {
+            return;
+        }
+        usedIds.clear(id);
+        personsById.set(id, null);
+
+        for (Tag tag : person.getTags()) {
+            BitSet persons = personsByTag.get(tag);
+            persons.clear(id);
+            if (persons.isEmpty()) {
+                personsByTag.remove(tag);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}, giving them consecutive ids.
+     */
+    public void setPersons(List<? extends Person> persons) {
+        requireNonNull(persons);
+        personsByTag.clear();
+        ids.clear();
+        personsById.clear();
+        usedIds.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the number of times this index has been modified.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the ids of all persons in the index.
+     */
+    public BitSet getAllPersons() {
+        return (BitSet) usedIds.clone();
+    }
+
+    /**
+     * Returns the ids of the persons with {@code tag}.
+     */
+    public BitSet getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        BitSet persons = personsByTag.get(tag);
+        return persons == null ? new BitSet() : (BitSet) persons.clone();
+    }
+
+    /**
+     * Returns the ids of the persons with a tag whose name contains {@code keyword}, ignoring case.
+     * Only the distinct tags are compared against {@code keyword}, not the tags of every person.
+     */
+    public BitSet getPersonsWithTagContaining(String keyword) {
+        requireNonNull(keyword);
+        String needle = StringUtil.toSearchNeedle(keyword);
+        BitSet persons = new BitSet();
+        for (Map.Entry<Tag, BitSet> entry : personsByTag.entrySet()) {
+            if (StringUtil.containsNormalizedSubstring(entry.getKey().getSearchKey(), needle)) {
+                persons.or(entry.getValue());
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons whose ids are set in {@code personIds}.
+     */
+    public List<Person> getPersons(BitSet personIds) {
+        requireNonNull(personIds);
+        List<Person> persons = new ArrayList<>(personIds.cardinality());
+        for (int id = personIds.nextSetBit(0); id >= 0; id = personIds.nextSetBit(id + 1)) {
+            Person person = id < personsById.size() ? personsById.get(id) : null;
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index from the three-character substrings (trigrams) of a {@code Person}'s searchable fields to the persons
+ * whose field contains them. Tags are covered by {@code TagIndex} instead.
+ * Trigrams are taken from the cached search keys of the field values, the same normalisation used by
+ * {@link StringUtil#containsSubstringIgnoreCase}. Hence every person whose field contains a
+ * keyword is guaranteed to be among the candidates returned for that keyword, and only those candidates need to be
+ * checked against the keyword itself.
+ * Persons are tracked by identity, as the index is kept in step with the entries of a {@code UniquePersonList}.
+ */
+public class TrigramIndex {
+
+    public static final int TRIGRAM_LENGTH = 3;
+
+    /**
+     * The fields of a {@code Person} covered by the index.
+     */
+    public enum Field {
+        NAME(person -> person.getName().getSearchKey()),
+        PHONE(person -> person.getPhone().getSearchKey()),
+        EMAIL(person -> person.getEmail().getSearchKey()),
+        ADDRESS(person -> person.getAddress().getSearchKey()),
+        ORGID(person -> person.getOrgID().getSearchKey()),
+        DEVICEINFO(person -> person.getDeviceInfo().getSearchKey());
+
+        private final Function<Person, String> searchKeyExtractor;
+
+        Field(Function<Person, String> searchKeyExtractor) {
+            this.searchKeyExtractor = searchKeyExtractor;
+        }
+
+        private String getSearchKey(Person person) {
+            return searchKeyExtractor.apply(person);
+        }
+    }
+
+    private final Map<Long, Set<Person>> personsByTrigram = new HashMap<>();
+    private int modificationCount = 0;
+
+    /**
+     * Adds every trigram of the fields of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Field field : Field.values()) {
+            for (long key : toKeys(field, field.getSearchKey(person))) {
+                personsByTrigram.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(person);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes every trigram of the fields of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Field field : Field.values()) {
+            for (long key : toKeys(field, field.getSearchKey(person))) {
+                Set<Person> persons = personsByTrigram.get(key);
+                if (persons == null) {
+                    continue;
+                }
+                persons.remove(person);
+                if (persons.isEmpty()) {
+                    personsByTrigram.remove(key);
+                }
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times this index has been modified.
+     * Results of {@link #getCandidates(Field, String)} remain valid for as long as this count does not change.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns true if {@code keyword} is long enough to be looked up in this index.
+     */
+    public static boolean isIndexable(String keyword) {
+        return keyword.trim().length() >= TRIGRAM_LENGTH;
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains every trigram of {@code keyword}, ignoring case.
+     * The returned set is a superset of the persons whose {@code field} contains {@code keyword}, and can be modified
+     * by the caller.
+     *
+     * @param keyword must be {@link #isIndexable(String) indexable}.
+     */
+    public Set<Person> getCandidates(Field field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        assert isIndexable(keyword);
+
+        List<Set<Person>> postings = new ArrayList<>();
+        for (long key : toKeys(field, StringUtil.toSearchNeedle(keyword))) {
+            Set<Person> persons = personsByTrigram.get(key);
+            if (persons == null) {
+                return Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            postings.add(persons);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the keys of the trigrams of the already normalised {@code value} of {@code field}.
+     * Each key packs the field and the three characters of the trigram into a single {@code long}.
+     */
+    private static long[] toKeys(Field field, String value) {
+        int trigramCount = Math.max(0, value.length() - TRIGRAM_LENGTH + 1);
+        long[] keys = new long[trigramCount];
+        for (int i = 0; i < trigramCount; i++) {
+            keys[i] = ((long) field.ordinal() << 48)
+                    | ((long) value.charAt(i) << 32)
+                    | ((long) value.charAt(i + 1) << 16)
+                    | value.charAt(i + 2);
+        }
+        return keys;
+    }
+}
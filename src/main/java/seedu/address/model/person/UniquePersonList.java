@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +27,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the observable list, an index from {@code OrgID} to list position is maintained so that identity checks,
+ * replacements and removals do not need to scan the whole list. Since {@link Person#isSamePerson(Person)} compares
+ * persons by {@code OrgID}, a lookup in this index is equivalent to the linear scan.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +38,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<OrgID, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getOrgID());
     }
 
     /**
@@ -45,6 +57,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getOrgID(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,7 +69,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +78,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target.getOrgID());
+        positions.put(editedPerson.getOrgID(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +89,52 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positions.remove(toRemove.getOrgID());
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getOrgID(), i);
+        }
+    }
+
+    /**
+     * Removes all the equivalent persons in {@code toRemove} from the list in a single change.
+     * The change only reports the removed persons, so listeners do not have to revisit the persons that remain.
+     * Every person in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        BitSet removedIndexes = new BitSet(internalList.size());
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            removedIndexes.set(index);
+            removed.add(internalList.get(index));
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        positions.clear();
+        int position = 0;
+        for (int i = removedIndexes.nextClearBit(0); i < internalList.size(); i = removedIndexes.nextClearBit(i + 1)) {
+            positions.put(internalList.get(i).getOrgID(), position++);
+        }
+        // The set holds the very instances in the list, so each entry is matched by identity in constant time
+        internalList.removeAll(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +144,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<OrgID, Integer> newPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (newPositions.put(persons.get(i).getOrgID(), i) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
         internalList.setAll(persons);
     }
 
@@ -135,16 +194,14 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} (by {@code Person#equals(Object)}),
+     * or -1 if there is no such person in the list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getOrgID());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
         }
-        return true;
+        return index;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Status in the address book.
  * Guarantees: immutable; status is valid as declared in {@link #isValidStatusName(String)}
@@ -14,19 +16,20 @@ public enum Status {
     public static final String MESSAGE_CONSTRAINTS = "Status should be one of: none, pending_approval, servicing"
             + ", pending_external, or on_hold";
 
+    // values() copies the array on every call
+    private static final Status[] VALUES = values();
+
+    private final String searchKey;
+
+    Status() {
+        searchKey = StringUtil.toSearchKey(toString());
+    }
+
     /**
      * Returns true if a given string is a valid status name (case insensitive).
      */
     public static boolean isValidStatusName(String test) {
-        if (test == null) {
-            return false;
-        }
-        try {
-            fromString(test);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return test != null && findByName(test) != null;
     }
 
     /**
@@ -37,11 +40,23 @@ public enum Status {
         if (statusName == null) {
             throw new IllegalArgumentException("Status cannot be null");
         }
-        try {
-            return Status.valueOf(statusName.toUpperCase());
-        } catch (IllegalArgumentException e) {
+        Status status = findByName(statusName);
+        if (status == null) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
+        return status;
+    }
+
+    /**
+     * Returns the status named {@code statusName} (case insensitive), or null if there is none.
+     */
+    private static Status findByName(String statusName) {
+        for (Status status : VALUES) {
+            if (status.name().equalsIgnoreCase(statusName)) {
+                return status;
+            }
+        }
+        return null;
     }
 
     /**
@@ -52,6 +67,13 @@ public enum Status {
         return name().toLowerCase();
     }
 
+    /**
+     * Returns the upper-cased form of {@link #toString()} used for case-insensitive search.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     /**
      * Format state as text for Display in Application.
      */
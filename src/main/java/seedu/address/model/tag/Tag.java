@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,22 +17,50 @@ public class Tag {
 
     public final String tagName;
 
+    private String searchKey;
+
     /**
      * Constructs a {@code Tag}.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    private Tag(String tagName, boolean isValidated) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidTagName(tagName) : MESSAGE_CONSTRAINTS;
+        } else {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} of {@code tagName}, which must already be known to be valid, without checking it again.
+     */
+    public static Tag ofValidated(String tagName) {
+        return new Tag(tagName, true);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && ValidationUtil.consistsOf(test, 0, ValidationUtil::isAlphanumeric);
+    }
+
+    /**
+     * Returns the upper-cased form of this {@code Tag} used for case-insensitive search.
+     * It is computed on first use and cached, as the value never changes.
+     */
+    public String getSearchKey() {
+        if (searchKey == null) {
+            searchKey = StringUtil.toSearchKey(tagName);
+        }
+        return searchKey;
     }
 
     @Override
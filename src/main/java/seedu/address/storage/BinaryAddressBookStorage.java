@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ * Snapshots are decoded by a {@link BinarySnapshotDecoder}, straight from the file mapped into memory if it is large.
+ * The file starts with a magic number and a format version, followed by a dictionary of the tag names and device
+ * infos shared between persons, then the persons, and ends with a CRC32 checksum of everything before it.
+ * Strings are stored as their length followed by their UTF-8 bytes, and all numbers are big-endian.
+ * As only valid persons are ever written, persons are read back without validating their fields again.
+ * Files that are not binary snapshots are read as json address books instead, so switching to this format keeps the
+ * existing data.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x41424B53; // "ABKS"
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_FILE_TOO_LARGE = "Address book snapshot %s is too large to be read";
+    public static final long MIN_MAPPED_FILE_BYTES = 1024 * 1024;
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    static final int CHECKSUM_BYTES = Long.BYTES;
+
+    /*
+     * A file cannot be replaced on Windows while it is mapped, and a mapping is only released once its buffer is
+     * garbage collected, which would make the next save fail.
+     */
+    private static final boolean IS_MAPPING_SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer;
+        try {
+            buffer = readSnapshot(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from address book file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (buffer.remaining() < HEADER_BYTES + CHECKSUM_BYTES || buffer.getInt(0) != MAGIC_NUMBER) {
+            logger.info(filePath + " is not a binary address book snapshot, reading it as json");
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            return Optional.of(new BinarySnapshotDecoder(buffer).decode());
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            logger.warning("Error decoding address book snapshot " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the content of {@code filePath} in a buffer.
+     * Large files are mapped into memory rather than copied onto the heap, so their pages are read only as they are
+     * decoded, and are served from the page cache of the OS when the application restarts.
+     */
+    private static ByteBuffer readSnapshot(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_FILE_TOO_LARGE, filePath));
+            }
+            if (size >= MIN_MAPPED_FILE_BYTES && IS_MAPPING_SUPPORTED) {
+                // The mapping stays valid after the channel is closed, until the buffer is garbage collected
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full
+            }
+            return buffer.flip();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot replaces any existing file in a single step, so the file is never left partly written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> encode(addressBook, out));
+    }
+
+    private static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            dictionary.putIfAbsent(person.getDeviceInfo().deviceInfo, dictionary.size());
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(out, crc)));
+        data.writeInt(MAGIC_NUMBER);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(data, entry);
+        }
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            writeString(data, person.getOrgID().value);
+            data.writeInt(dictionary.get(person.getDeviceInfo().deviceInfo));
+            data.writeByte(person.getStatus().ordinal());
+            data.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                data.writeInt(dictionary.get(tag.tagName));
+            }
+        }
+        data.flush();
+
+        // The checksum covers everything before it, so it is written past the checked stream
+        new DataOutputStream(out).writeLong(crc.getValue());
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+}
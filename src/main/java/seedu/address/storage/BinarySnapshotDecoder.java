@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookStorage.CHECKSUM_BYTES;
+import static seedu.address.storage.BinaryAddressBookStorage.FORMAT_VERSION;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.DeviceInfo;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OrgID;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Decodes an address book from the bytes of a snapshot written by {@link BinaryAddressBookStorage}.
+ * Each person is decoded straight from the buffer, which may be a file mapped into memory, without copying the
+ * snapshot onto the heap first. Strings are read through a scratch array reused across fields.
+ */
+class BinarySnapshotDecoder {
+
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Address book snapshot is corrupted";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book snapshot has unsupported version %d";
+
+    private static final Status[] STATUSES = Status.values();
+
+    private final ByteBuffer buffer;
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Creates a decoder of the snapshot in {@code buffer}, from its current position to its limit.
+     */
+    BinarySnapshotDecoder(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    /**
+     * Decodes the snapshot into the model's {@code AddressBook}.
+     *
+     * @throws IOException if the snapshot is corrupted or of an unsupported version.
+     * @throws BufferUnderflowException if the snapshot is cut short.
+     */
+    AddressBook decode() throws IOException {
+        int checksumPosition = buffer.limit() - CHECKSUM_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(checksumPosition));
+        if (crc.getValue() != buffer.getLong(checksumPosition)) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        buffer.limit(checksumPosition);
+
+        buffer.getInt(); // magic number
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] dictionary = new String[readCount()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString();
+        }
+
+        // Persons sharing a tag or device info share the same instance, as both are immutable
+        Tag[] tagsByIndex = new Tag[dictionary.length];
+        DeviceInfo[] deviceInfosByIndex = new DeviceInfo[dictionary.length];
+        int personCount = readCount();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int personIndex = 0; personIndex < personCount; personIndex++) {
+            Name name = Name.ofValidated(readString());
+            Phone phone = Phone.ofValidated(readString());
+            Email email = Email.ofValidated(readString());
+            Address address = Address.ofValidated(readString());
+            OrgID orgId = OrgID.ofValidated(readString());
+            int deviceInfoIndex = buffer.getInt();
+            if (deviceInfosByIndex[deviceInfoIndex] == null) {
+                deviceInfosByIndex[deviceInfoIndex] = DeviceInfo.ofValidated(dictionary[deviceInfoIndex]);
+            }
+            Status status = STATUSES[buffer.get()];
+            int tagCount = readCount();
+            Set<Tag> personTags = new HashSet<>(tagCount * 2);
+            for (int i = 0; i < tagCount; i++) {
+                int tagIndex = buffer.getInt();
+                if (tagsByIndex[tagIndex] == null) {
+                    tagsByIndex[tagIndex] = Tag.ofValidated(dictionary[tagIndex]);
+                }
+                personTags.add(tagsByIndex[tagIndex]);
+            }
+            persons.add(new Person(name, phone, email, address, orgId, deviceInfosByIndex[deviceInfoIndex],
+                    personTags, status));
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Reads a count of items, each taking at least one byte, that must fit in the rest of the buffer.
+     */
+    private int readCount() {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private String readString() {
+        int length = readCount();
+        if (buffer.hasArray()) {
+            String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return string;
+        }
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,351 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.OrgID;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file plus a json journal of the changes made since then.
+ * Saving an address book appends only the persons that were added, edited or removed since the last save to the
+ * journal, as one line of json per change, and syncs the journal to the disk once per save.
+ * The snapshot is rewritten in full, and the journal emptied, once the journal grows past a size or age threshold, or
+ * when a change cannot be expressed in the journal, such as persons being reordered.
+ * Reading the address book loads the snapshot and replays the journal on top of it.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String NEW_SNAPSHOT_FILE_SUFFIX = ".new";
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+    public static final Duration DEFAULT_MAX_JOURNAL_AGE = Duration.ofMinutes(10);
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final Path newSnapshotFilePath;
+    private final AddressBookStorage snapshotStorage;
+    private final long maxJournalBytes;
+    private final Duration maxJournalAge;
+
+    /** The persons in the snapshot and journal, in list order, or null if they are not known. */
+    private LinkedHashMap<OrgID, Person> persistedPersons;
+    private long journalBytes;
+    private long journalStartTime;
+    private boolean isCompactionDue;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(new JsonAddressBookStorage(filePath));
+    }
+
+    /**
+     * Creates a storage that keeps its snapshots in {@code snapshotStorage}, at its file path.
+     * Saving the snapshot must sync it to the disk.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_MAX_JOURNAL_BYTES, DEFAULT_MAX_JOURNAL_AGE);
+    }
+
+    /**
+     * Creates a storage that compacts its journal once it is larger than {@code maxJournalBytes}, or once its oldest
+     * change is older than {@code maxJournalAge}.
+     */
+    JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long maxJournalBytes, Duration maxJournalAge) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(maxJournalAge);
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.newSnapshotFilePath = filePath.resolveSibling(filePath.getFileName() + NEW_SNAPSHOT_FILE_SUFFIX);
+        this.snapshotStorage = snapshotStorage;
+        this.maxJournalBytes = maxJournalBytes;
+        this.maxJournalAge = maxJournalAge;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the file path of the journal, next to the snapshot file.
+     */
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than this storage's own are read as plain snapshots, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        try {
+            recoverInterruptedSnapshot();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        // The journal is only ever appended to after a snapshot is written, so it is meaningless without one
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LinkedHashMap<OrgID, Person> persons = new LinkedHashMap<>();
+        snapshot.get().getPersonList().forEach(person -> persons.put(person.getOrgID(), person));
+        boolean isJournalTorn = replayJournal(persons);
+
+        persistedPersons = persons;
+        journalBytes = journalFilePath.toFile().length();
+        journalStartTime = System.currentTimeMillis();
+        isCompactionDue = isJournalTorn;
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies every change in the journal, if there is one, to {@code persons}.
+     * A last line cut short by a crash while it was being written is ignored if it is not a valid change.
+     *
+     * @return true if the last line of the journal was cut short, so nothing more can be appended after it.
+     * @throws DataLoadingException if any complete line of the journal is not a valid change.
+     */
+    private boolean replayJournal(Map<OrgID, Person> persons) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+
+        String[] lines;
+        try {
+            lines = FileUtil.readFromFile(journalFilePath).split("\n", -1);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        // Every complete line ends with a line break, so the last element is only non-empty if it was cut short
+        for (int i = 0; i < lines.length; i++) {
+            boolean isLastLine = i == lines.length - 1;
+            if (isLastLine && lines[i].isEmpty()) {
+                break;
+            }
+            try {
+                JsonUtil.fromJsonString(lines[i], JsonJournalRecord.class).applyTo(persons);
+            } catch (IOException | IllegalValueException e) {
+                if (isLastLine) {
+                    logger.warning("Ignoring incomplete last change in " + journalFilePath + ": " + e.getMessage());
+                    break;
+                }
+                logger.info("Illegal change found in line " + (i + 1) + " of " + journalFilePath + ": "
+                        + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+        return !lines[lines.length - 1].isEmpty();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than this storage's own are written as plain snapshots, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Changes changes = persistedPersons == null ? null : diff(persistedPersons, persons);
+        if (changes == null) {
+            writeSnapshot(addressBook);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        byte[] bytes = toJournalLines(changes);
+        if (isCompactionDue || journalBytes + bytes.length > maxJournalBytes || isJournalExpired()) {
+            writeSnapshot(addressBook);
+            return;
+        }
+
+        try {
+            appendToJournal(bytes);
+        } catch (IOException e) {
+            // Part of the changes may have been written, so the journal cannot be trusted to be appended to again
+            isCompactionDue = true;
+            throw e;
+        }
+        if (journalBytes == 0) {
+            journalStartTime = System.currentTimeMillis();
+        }
+        journalBytes += bytes.length;
+        changes.removedOrgIds.forEach(persistedPersons::remove);
+        changes.putPersons.forEach(person -> persistedPersons.put(person.getOrgID(), person));
+    }
+
+    /**
+     * Returns the changes that turn {@code oldPersons} into {@code newPersons}, or null if the changes cannot be
+     * journaled, as some persons were reordered or share an {@code OrgID}.
+     * Persons are compared by reference first, as persons that were not edited are usually the same objects.
+     */
+    private static Changes diff(LinkedHashMap<OrgID, Person> oldPersons, List<Person> newPersons) {
+        Set<OrgID> newOrgIds = new HashSet<>();
+        for (Person person : newPersons) {
+            newOrgIds.add(person.getOrgID());
+        }
+        if (newOrgIds.size() != newPersons.size()) {
+            return null;
+        }
+
+        Changes changes = new Changes();
+        for (OrgID orgId : oldPersons.keySet()) {
+            if (!newOrgIds.contains(orgId)) {
+                changes.removedOrgIds.add(orgId);
+            }
+        }
+
+        // Replaying keeps kept persons in place and appends new ones, so the new list must keep that order
+        Iterator<Person> newPersonIterator = newPersons.iterator();
+        for (Map.Entry<OrgID, Person> entry : oldPersons.entrySet()) {
+            if (!newOrgIds.contains(entry.getKey())) {
+                continue;
+            }
+            Person newPerson = newPersonIterator.next();
+            if (!newPerson.getOrgID().equals(entry.getKey())) {
+                return null;
+            }
+            if (newPerson != entry.getValue() && !newPerson.equals(entry.getValue())) {
+                changes.putPersons.add(newPerson);
+            }
+        }
+        while (newPersonIterator.hasNext()) {
+            changes.putPersons.add(newPersonIterator.next());
+        }
+        return changes;
+    }
+
+    private boolean isJournalExpired() {
+        return journalBytes > 0 && System.currentTimeMillis() - journalStartTime > maxJournalAge.toMillis();
+    }
+
+    private static byte[] toJournalLines(Changes changes) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (OrgID orgId : changes.removedOrgIds) {
+            builder.append(JsonUtil.toCompactJsonString(JsonJournalRecord.remove(orgId))).append('\n');
+        }
+        for (Person person : changes.putPersons) {
+            builder.append(JsonUtil.toCompactJsonString(JsonJournalRecord.put(person))).append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void appendToJournal(byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the snapshot file in full and empties the journal.
+     * The new snapshot is written next to the old one first, and only replaces it after the journal is deleted.
+     * The journal is created beforehand if missing, so a new snapshot without a journal is known to be complete.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        // Forget the persisted persons first, so a failure below leads to another full snapshot
+        persistedPersons = null;
+        FileUtil.createIfMissing(journalFilePath);
+        snapshotStorage.saveAddressBook(addressBook, newSnapshotFilePath);
+        Files.delete(journalFilePath);
+        Files.move(newSnapshotFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        LinkedHashMap<OrgID, Person> persons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(person.getOrgID(), person));
+        persistedPersons = persons;
+        journalBytes = 0;
+        isCompactionDue = false;
+    }
+
+    /**
+     * Finishes or undoes a snapshot that was being written when the application last stopped.
+     * A new snapshot is complete once the journal is deleted, and is discarded if the journal is still there.
+     */
+    private void recoverInterruptedSnapshot() throws IOException {
+        if (!Files.exists(newSnapshotFilePath)) {
+            return;
+        }
+        if (Files.exists(journalFilePath)) {
+            logger.warning("Discarding incomplete snapshot " + newSnapshotFilePath);
+            Files.delete(newSnapshotFilePath);
+        } else {
+            logger.warning("Completing snapshot " + newSnapshotFilePath);
+            Files.move(newSnapshotFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * The persons removed and the persons added or edited by a save, in the order they are journaled.
+     */
+    private static class Changes {
+        private final List<OrgID> removedOrgIds = new ArrayList<>();
+        private final List<Person> putPersons = new ArrayList<>();
+
+        boolean isEmpty() {
+            return removedOrgIds.isEmpty() && putPersons.isEmpty();
+        }
+    }
+}
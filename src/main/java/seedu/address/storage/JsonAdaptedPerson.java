@@ -92,7 +92,7 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofValidated(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -100,7 +100,7 @@ class JsonAdaptedPerson {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.ofValidated(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -108,7 +108,7 @@ class JsonAdaptedPerson {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.ofValidated(email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -116,7 +116,7 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.ofValidated(address);
 
         if (orgid == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, OrgID.class.getSimpleName()));
@@ -124,7 +124,7 @@ class JsonAdaptedPerson {
         if (!OrgID.isValidOrgID(orgid)) {
             throw new IllegalValueException(OrgID.MESSAGE_CONSTRAINTS);
         }
-        final OrgID modelOrgID = new OrgID(orgid);
+        final OrgID modelOrgID = OrgID.ofValidated(orgid);
 
         if (deviceinfo == null) {
             throw new IllegalValueException(
@@ -133,7 +133,7 @@ class JsonAdaptedPerson {
         if (!DeviceInfo.isValidDeviceInfo(deviceinfo)) {
             throw new IllegalValueException(DeviceInfo.MESSAGE_CONSTRAINTS);
         }
-        final DeviceInfo modelDeviceInfo = new DeviceInfo(deviceinfo);
+        final DeviceInfo modelDeviceInfo = DeviceInfo.ofValidated(deviceinfo);
 
         if (status == null) {
             throw new IllegalValueException(
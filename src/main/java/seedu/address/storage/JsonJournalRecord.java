@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.OrgID;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to an address book, as recorded in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ * A change either puts a person in place of the person with the same {@code OrgID}, or appends them if there is
+ * none, or removes the person with a given {@code OrgID}. Applying a change again has no further effect.
+ */
+class JsonJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Unknown journal operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    static final String PUT = "put";
+    static final String REMOVE = "remove";
+
+    private final String op;
+    private final String orgid;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("op") String op, @JsonProperty("orgid") String orgid,
+                             @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.orgid = orgid;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record that puts {@code person} in place of the person with the same {@code OrgID}.
+     */
+    public static JsonJournalRecord put(Person person) {
+        return new JsonJournalRecord(PUT, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that removes the person with {@code orgId}.
+     */
+    public static JsonJournalRecord remove(OrgID orgId) {
+        return new JsonJournalRecord(REMOVE, orgId.value, null);
+    }
+
+    /**
+     * Applies this change to {@code persons}, which maps each {@code OrgID} to its person in list order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(Map<OrgID, Person> persons) throws IllegalValueException {
+        if (PUT.equals(op)) {
+            if (person == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            }
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getOrgID(), modelPerson);
+        } else if (REMOVE.equals(op)) {
+            if (orgid == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "orgid"));
+            }
+            if (!OrgID.isValidOrgID(orgid)) {
+                throw new IllegalValueException(OrgID.MESSAGE_CONSTRAINTS);
+            }
+            persons.remove(OrgID.ofValidated(orgid));
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+}
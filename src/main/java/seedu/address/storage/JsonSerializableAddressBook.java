@@ -1,16 +1,30 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.OrgID;
 import seedu.address.model.person.Person;
 
 /**
@@ -19,7 +33,12 @@ import seedu.address.model.person.Person;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "Persons list contains duplicate person(s) with OrgID(s): %1$s";
+    public static final String MESSAGE_INVALID_PERSON = "Person %1$d in the list is invalid: %2$s";
+
+    /** Persons read from a stream are converted in batches of this size while the rest is still being read. */
+    private static final int STREAMING_BATCH_SIZE = 4096;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -43,19 +62,176 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are converted in parallel.
+     *
+     * All invalid persons, with their positions in the list, and all duplicate OrgIDs are reported together in a
+     * single error.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(List.of(PersonConversionTask.start(persons)));
+    }
+
+    /**
+     * Reads an address book in this class's JSON format from {@code in}, converting batches of persons into the
+     * model's {@code Person}s in parallel as soon as they are read, without keeping the whole file or all its
+     * {@code JsonAdaptedPerson}s in memory.
+     * Other properties than the persons are skipped, as when reading this class.
+     *
+     * All invalid persons, with their positions in the file, and all duplicate OrgIDs are reported together in a
+     * single error.
+     *
+     * @throws IOException if {@code in} could not be read or is not in this class's JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(InputStream in) throws IOException, IllegalValueException {
+        List<PersonConversionTask> conversions = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!"persons".equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array of persons");
+                }
+                List<JsonAdaptedPerson> batch = new ArrayList<>(STREAMING_BATCH_SIZE);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (batch.size() == STREAMING_BATCH_SIZE) {
+                        conversions.add(PersonConversionTask.start(batch));
+                        batch = new ArrayList<>(STREAMING_BATCH_SIZE);
+                    }
+                }
+                conversions.add(PersonConversionTask.start(batch));
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a person object");
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Expected the end of the address book object");
+            }
+        }
+        return toAddressBook(conversions);
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in this class's JSON format, converting each person into a
+     * {@code JsonAdaptedPerson} only as it is written.
+     *
+     * @param isPrettyPrinted whether the JSON is indented, rather than written on a single line.
+     * @throws IOException if {@code out} could not be written to.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : source.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Merges the persons converted by {@code conversions}, in order, into an address book, checking that their OrgIDs
+     * are unique.
+     */
+    private static AddressBook toAddressBook(List<PersonConversionTask> conversions) throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        Set<OrgID> seenOrgIds = new HashSet<>();
+        Set<OrgID> duplicateOrgIds = new LinkedHashSet<>();
+        int position = 0;
+        for (PersonConversionTask conversion : conversions) {
+            conversion.join();
+            for (int i = 0; i < conversion.modelPersons.length; i++) {
+                position++;
+                if (conversion.errors[i] != null) {
+                    errors.add(String.format(MESSAGE_INVALID_PERSON, position, conversion.errors[i]));
+                    continue;
+                }
+                Person person = conversion.modelPersons[i];
+                if (!seenOrgIds.add(person.getOrgID())) {
+                    duplicateOrgIds.add(person.getOrgID());
+                }
+                modelPersons.add(person);
             }
-            addressBook.addPerson(person);
         }
+
+        if (!duplicateOrgIds.isEmpty()) {
+            String duplicates = duplicateOrgIds.stream().map(OrgID::toString).collect(Collectors.joining(", "));
+            errors.add(String.format(MESSAGE_DUPLICATE_PERSON, duplicates));
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
+    /**
+     * Converts a list of {@code JsonAdaptedPerson}s into the model's {@code Person}s, splitting the list in halves
+     * across the common fork-join pool until the parts are small enough to convert directly.
+     * Each person that cannot be converted leaves the message of its error at its index instead.
+     */
+    private static class PersonConversionTask extends RecursiveAction {
+        private static final int SEQUENTIAL_THRESHOLD = 256;
+
+        private List<JsonAdaptedPerson> adaptedPersons;
+        private final Person[] modelPersons;
+        private final String[] errors;
+        private final int from;
+        private final int to;
+
+        private PersonConversionTask(List<JsonAdaptedPerson> adaptedPersons, Person[] modelPersons, String[] errors,
+                                     int from, int to) {
+            this.adaptedPersons = adaptedPersons;
+            this.modelPersons = modelPersons;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Starts converting {@code adaptedPersons} in the background, and returns the task to join for the result.
+         */
+        static PersonConversionTask start(List<JsonAdaptedPerson> adaptedPersons) {
+            int size = adaptedPersons.size();
+            PersonConversionTask task = new PersonConversionTask(adaptedPersons, new Person[size], new String[size],
+                    0, size);
+            ForkJoinPool.commonPool().execute(task);
+            return task;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        modelPersons[i] = adaptedPersons.get(i).toModelType();
+                    } catch (IllegalValueException ive) {
+                        errors[i] = ive.getMessage();
+                    }
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PersonConversionTask(adaptedPersons, modelPersons, errors, from, middle),
+                        new PersonConversionTask(adaptedPersons, modelPersons, errors, middle, to));
+            }
+            // Lets converted batches be garbage collected while the rest of the persons are still being read
+            adaptedPersons = null;
+        }
+    }
+
 }
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} in the background, on a dedicated thread.
+ * Saves requested while another save is pending are coalesced, so only the most recently requested address book is
+ * written. Failures are passed to a handler on the saving thread, as the caller has moved on by then.
+ */
+public class WriteBehindAddressBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Consumer<IOException> failureHandler;
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a saver that writes to {@code storage} and passes save failures to {@code failureHandler}.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage, Consumer<IOException> failureHandler) {
+        requireAllNonNull(storage, failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book that is still waiting to be saved.
+     * {@code addressBook} must not be modified afterwards, as it is read on the saving thread.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pendingAddressBook.getAndSet(addressBook) == null) {
+            executor.execute(this::savePendingAddressBook);
+        }
+    }
+
+    /**
+     * Blocks until every address book requested so far has been saved, or has failed to save.
+     */
+    public void flush() {
+        try {
+            // Tasks run in submission order, so this completes after every save requested before it
+            executor.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    private void savePendingAddressBook() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+}
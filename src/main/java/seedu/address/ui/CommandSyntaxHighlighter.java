@@ -2,30 +2,19 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.AddressBookParser.BASIC_COMMAND_FORMAT;
-import static seedu.address.logic.parser.AddressBookParser.COMMAND_WORDS_ALL;
-import static seedu.address.logic.parser.AddressBookParser.COMMAND_WORDS_PREFIXED;
-import static seedu.address.logic.parser.AddressBookParser.COMMAND_WORDS_SINGLE_ARG;
-import static seedu.address.logic.parser.AddressBookParser.COMMAND_WORDS_STANDALONE;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 
 import org.fxmisc.richtext.model.StyleSpans;
 import org.fxmisc.richtext.model.StyleSpansBuilder;
 
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.FilterStatusCommand;
-import seedu.address.logic.commands.FindByCommand;
-import seedu.address.logic.commands.SetStatusCommand;
-import seedu.address.logic.parser.AddCommandParser;
-import seedu.address.logic.parser.EditCommandParser;
-import seedu.address.logic.parser.FilterStatusCommandParser;
-import seedu.address.logic.parser.FindByCommandParser;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.CommandRegistry.RegisteredCommand;
 import seedu.address.logic.parser.Prefix;
-import seedu.address.logic.parser.SetStatusCommandParser;
 
 /**
  * A class to support syntax highlighting for commands.
@@ -51,7 +40,7 @@ public class CommandSyntaxHighlighter {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(sanitizedText);
 
         // Handle a valid command partially typed
-        if (isValidPartialCommand(sanitizedText)) {
+        if (CommandRegistry.isCommandWordPrefix(sanitizedText)) {
             return highlightText(inputText, StyleClass.COMMAND).create();
         }
 
@@ -63,14 +52,20 @@ public class CommandSyntaxHighlighter {
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
 
-        if (isSingleArgCommand(commandWord)) {
+        Optional<RegisteredCommand> command = CommandRegistry.find(commandWord);
+        if (command.isEmpty()) {
+            return handleUnrecognizedCommand(commandWord, inputText).create();
+        }
+
+        switch (command.get().getSyntax()) {
+        case SINGLE_ARG:
             return handleSingleArgCommand(commandWord, inputText).create();
-        } else if (isStandaloneCommand(commandWord)) {
+        case STANDALONE:
             return handleStandaloneCommand(commandWord, inputText).create();
-        } else if (isPrefixedCommand(commandWord)) {
-            return handlePrefixedCommand(commandWord, arguments, inputText).create();
-        } else {
-            return handleUnrecognizedCommand(commandWord, inputText).create();
+        case PREFIXED:
+            return handlePrefixedCommand(commandWord, command.get().getPrefixes(), arguments, inputText).create();
+        default:
+            throw new AssertionError("Unknown command syntax: " + command.get().getSyntax());
         }
     }
 
@@ -85,21 +80,21 @@ public class CommandSyntaxHighlighter {
     }
 
     /**
-     * Computes the syntax highlighting for an unrecognized command.
+     * Computes the syntax highlighting for a command with prefixed arguments.
      *
      * @param commandWord The command word.
+     * @param prefixes    The prefixes of the command's arguments.
      * @param arguments   The arguments for the command.
      * @param inputText   The entire input text including the command word.
      * @return A StyleSpansBuilder for the entire input text.
      */
-    private static StyleSpansBuilder<Collection<String>> handlePrefixedCommand(String commandWord, String arguments,
-                                                                               String inputText) {
+    private static StyleSpansBuilder<Collection<String>> handlePrefixedCommand(String commandWord,
+            List<Prefix> prefixes, String arguments, String inputText) {
         StyleSpansBuilder<Collection<String>> spansBuilder = new StyleSpansBuilder<>();
         addPrecedingWhitespaceHighlight(spansBuilder, inputText);
 
         // Highlight command
         spansBuilder.add(Collections.singleton(StyleClass.COMMAND.getStyleClass()), commandWord.length());
-        Prefix[] prefixes = getPrefixesForCommand(commandWord);
 
         String remainingText = arguments;
         int idx = commandWord.length();
@@ -187,37 +182,6 @@ public class CommandSyntaxHighlighter {
         return spansBuilder;
     }
 
-    /**
-     * Get an array of prefixes associated with the given command word.
-     *
-     * @param commandWord The command word to get prefixes for.
-     * @return An array of prefixes associated with the command word.
-     */
-    private static Prefix[] getPrefixesForCommand(String commandWord) {
-        Prefix[] prefixes = new Prefix[0];
-        switch (commandWord) {
-        case AddCommand.COMMAND_WORD:
-            prefixes = AddCommandParser.getPrefixes();
-            break;
-        case EditCommand.COMMAND_WORD:
-            prefixes = EditCommandParser.getPrefixes();
-            break;
-        case FindByCommand.COMMAND_WORD:
-            prefixes = FindByCommandParser.getPrefixes();
-            break;
-        case SetStatusCommand.COMMAND_WORD:
-            prefixes = SetStatusCommandParser.getPrefixes();
-            break;
-        case FilterStatusCommand.COMMAND_WORD:
-            prefixes = FilterStatusCommandParser.getPrefixes();
-            break;
-        default:
-            assert false : String.format("Command word %s has no associated prefixes for syntax highlighting",
-                    commandWord);
-        }
-        return prefixes;
-    }
-
     /**
      * Gets a StyleSpansBuilder that will highlight the entirety of the given text with the given style class.
      *
@@ -231,57 +195,6 @@ public class CommandSyntaxHighlighter {
         return spansBuilder;
     }
 
-    /**
-     * Checks if the given text is a valid partial command.
-     *
-     * @param commandWord The text to check.
-     * @return True if the text is a valid partial command, false otherwise.
-     */
-    private static boolean isValidPartialCommand(String commandWord) {
-        return Arrays.stream(COMMAND_WORDS_ALL).anyMatch(command -> command.startsWith(commandWord));
-    }
-
-    /**
-     * Checks if the given text is a valid command word
-     *
-     * @param commandWord The command word to check.
-     * @return True if the command word is valid, false otherwise.
-     */
-    private static boolean isValidCommand(String commandWord) {
-        return Arrays.stream(COMMAND_WORDS_ALL).anyMatch(command -> command.equals(commandWord));
-    }
-
-    /**
-     * Checks if the given command word is associated with a standalone command without prefixes nor arguments.
-     *
-     * @param commandWord The command word to check.
-     * @return True if the command word is a standalone command, false otherwise.
-     */
-    private static boolean isStandaloneCommand(String commandWord) {
-        return Arrays.stream(COMMAND_WORDS_STANDALONE).anyMatch(commandWord::equals);
-    }
-
-    /**
-     * Checks if the given command word is associated with a command only accepting a single subsequent argument
-     * without prefixes.
-     *
-     * @param commandWord The command word to check.
-     * @return True if the command word is a single argument command, false otherwise.
-     */
-    private static boolean isSingleArgCommand(String commandWord) {
-        return Arrays.stream(COMMAND_WORDS_SINGLE_ARG).anyMatch(commandWord::equals);
-    }
-
-    /**
-     * Checks if the given command word is associated with a command that requires prefixed arguments.
-     *
-     * @param commandWord The command word to check.
-     * @return True if the command word is a prefixed command, false otherwise.
-     */
-    private static boolean isPrefixedCommand(String commandWord) {
-        return Arrays.stream(COMMAND_WORDS_PREFIXED).anyMatch(commandWord::equals);
-    }
-
     /**
      * Adds a highlight for preceding whitespace in the given text.
      *
@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 
 import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
 import javafx.fxml.FXML;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
@@ -25,6 +28,9 @@ public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
     private static final int DROPDOWN_WIDTH = 45;
+    private static final List<String> STATUS_STYLE_CLASSES = Arrays.stream(Status.values())
+            .map(PersonCard::getStatusStyleClass)
+            .toList();
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -34,7 +40,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     // Containers
     @FXML
@@ -67,15 +73,26 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson(Person, int)} is called.
+     * A single card can be rebound to different persons, so that list cells need to load the FXML only once.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.person = person;
 
         // Setup cardPaneHeader to be responsive to the width of the personListPanel
         setupResponsiveCardPaneHeader();
 
+        for (Label label : List.of(id, name, orgId, deviceInfo, status, phone, email, address)) {
+            setLabelCopyable(label);
+        }
+    }
+
+    /**
+     * Displays {@code person} with the given index on this card, replacing the person displayed before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        this.person = person;
+
         // Header Fields
         setupCopyableLabel(id, String.valueOf(displayedIndex));
         setupCopyableLabel(name, person.getName().fullName);
@@ -89,15 +106,43 @@ public class PersonCard extends UiPart<Region> {
         setupCopyableLabel(address, person.getAddress().value, UnicodeIcons.HOME);
 
         // Tags
+        tags.getChildren().clear();
         person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> {
-                    Label tagLabel = new Label(tag.tagName);
+                    Label tagLabel = new Label();
+                    setLabelCopyable(tagLabel);
                     setupCopyableLabel(tagLabel, tag.tagName);
                     tags.getChildren().add(tagLabel);
                 });
     }
 
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the property of whether the details of the person are shown.
+     */
+    public BooleanProperty expandedProperty() {
+        return cardPaneTitledPane.expandedProperty();
+    }
+
+    /**
+     * Shows or hides the details of the person at once, without animating the change.
+     * Used when the card is rebound to another person, whose details may be shown while the previous person's were
+     * not.
+     */
+    public void setExpandedImmediately(boolean isExpanded) {
+        if (cardPaneTitledPane.isExpanded() == isExpanded) {
+            return;
+        }
+        boolean isAnimated = cardPaneTitledPane.isAnimated();
+        cardPaneTitledPane.setAnimated(false);
+        cardPaneTitledPane.setExpanded(isExpanded);
+        cardPaneTitledPane.setAnimated(isAnimated);
+    }
+
     /**
      * Sets the label text with an icon.
      *
@@ -107,7 +152,7 @@ public class PersonCard extends UiPart<Region> {
      */
     private static void setupCopyableLabel(Label label, String text, String icon) {
         label.setText(icon + "   " + text);
-        PersonCard.setLabelCopyable(label, text);
+        PersonCard.setCopyString(label, text);
     }
 
     /**
@@ -118,7 +163,7 @@ public class PersonCard extends UiPart<Region> {
      */
     private static void setupCopyableLabel(Label label, String text) {
         label.setText(text);
-        PersonCard.setLabelCopyable(label, text);
+        PersonCard.setCopyString(label, text);
     }
 
     /**
@@ -127,6 +172,7 @@ public class PersonCard extends UiPart<Region> {
      * @param status The status of the person.
      */
     private static void setupCopyableStatusLabel(Label label, Status status) {
+        label.getStyleClass().removeAll(STATUS_STYLE_CLASSES);
         label.getStyleClass().add(PersonCard.getStatusStyleClass(status));
 
         switch (status) {
@@ -176,36 +222,50 @@ public class PersonCard extends UiPart<Region> {
     }
 
     /**
-     * Sets up a label to be copyable when right-clicked, and optionally formatted with an icon.
+     * Sets up a label to copy its copy string when right-clicked.
+     * The copy string is kept in the label's user data, so that it can be changed when the card is rebound.
      *
-     * @param label      The label to be set up.
-     * @param copyString The string to be copied when the label is clicked.
+     * @param label The label to be set up.
      */
-    private static void setLabelCopyable(Label label, String copyString) {
-        // Blank labels used as spacers should not be copyable
-        if (label.getText().isBlank()) {
-            return;
-        }
-
-        // Tooltip and cursor to indicate that the label is copyable
-        label.setTooltip(new Tooltip("Right-click to copy"));
-        label.setCursor(Cursor.HAND);
-
+    private static void setLabelCopyable(Label label) {
         // Copy the text to clipboard when clicked
         label.setOnMouseClicked(event -> {
-            // Only copy on right-click
-            if (!event.getButton().toString().equals("SECONDARY")) {
+            // Only copy on right-click, and only if the label is not blank
+            if (!event.getButton().toString().equals("SECONDARY") || label.getUserData() == null) {
                 return;
             }
 
             final Clipboard clipboard = Clipboard.getSystemClipboard();
             final ClipboardContent content = new ClipboardContent();
-            content.putString(copyString);
+            content.putString((String) label.getUserData());
             clipboard.setContent(content);
             event.consume();
         });
     }
 
+    /**
+     * Sets the string to be copied when {@code label} is right-clicked, and formats the label as copyable.
+     *
+     * @param label      The label to be set up.
+     * @param copyString The string to be copied when the label is clicked.
+     */
+    private static void setCopyString(Label label, String copyString) {
+        // Blank labels used as spacers should not be copyable
+        if (label.getText().isBlank()) {
+            label.setUserData(null);
+            label.setTooltip(null);
+            label.setCursor(Cursor.DEFAULT);
+            return;
+        }
+
+        // Tooltip and cursor to indicate that the label is copyable
+        label.setUserData(copyString);
+        if (label.getTooltip() == null) {
+            label.setTooltip(new Tooltip("Right-click to copy"));
+        }
+        label.setCursor(Cursor.HAND);
+    }
+
     /**
      * Sets the width of the cardPaneHeader to be the same as the personListPanel.
      * <p>
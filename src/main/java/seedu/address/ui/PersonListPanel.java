@@ -1,14 +1,15 @@
 package seedu.address.ui;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
-import javafx.scene.control.TitledPane;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.OrgID;
@@ -20,25 +21,51 @@ import seedu.address.model.person.Person;
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
-    private final Map<OrgID, Boolean> expandedCells = new HashMap<>();
+    private final Set<OrgID> expandedOrgIds = new HashSet<>();
+    private final ListChangeListener<Person> expandedStatePruner = this::pruneExpandedState;
 
     @FXML
     private ListView<Person> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} that shows {@code personList}, a view of {@code allPersons}.
+     * The expanded state of persons is forgotten once they are removed from {@code allPersons}.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, ObservableList<Person> allPersons) {
         super(FXML);
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+
+        // The listener is held weakly, so that the address book does not keep panels replaced on login alive
+        allPersons.addListener(new WeakListChangeListener<>(expandedStatePruner));
+    }
+
+    /**
+     * Forgets the expanded state of the persons removed by {@code change}, unless a person with the same
+     * {@code OrgID} takes their place, such as when a person is edited.
+     */
+    private void pruneExpandedState(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (expandedOrgIds.isEmpty() || !change.wasRemoved()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                OrgID orgId = removed.getOrgID();
+                if (expandedOrgIds.contains(orgId) && change.getAddedSubList().stream()
+                        .noneMatch(added -> added.getOrgID().equals(orgId))) {
+                    expandedOrgIds.remove(orgId);
+                }
+            }
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using
      * a {@code PersonCard}.
+     * Each cell loads its card once and rebinds it to whichever person the cell displays.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
 
         @Override
         protected void updateItem(Person person, boolean empty) {
@@ -48,29 +75,34 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                PersonCard personCard = new PersonCard(person, getIndex() + 1);
-                preserveExpandedState(personCard, person.getOrgID());
-                setGraphic(personCard.getRoot());
-
-                // Listen for expansion changes and update map
-                TitledPane titledPane = (TitledPane) personCard.getRoot().lookup("#cardPaneTitledPane");
-                if (titledPane != null) {
-                    titledPane.expandedProperty().addListener((obs, oldVal, newVal) -> {
-                        expandedCells.put(person.getOrgID(), newVal);
-                    });
-                }
-
+                PersonCard card = getPersonCard();
+                card.setPerson(person, getIndex() + 1);
+                card.setExpandedImmediately(expandedOrgIds.contains(person.getOrgID()));
+                setGraphic(card.getRoot());
             }
         }
 
-        private void preserveExpandedState(PersonCard newCard, OrgID id) {
-
-            boolean isExpanded = expandedCells.getOrDefault(id, false);
+        /**
+         * Returns the card of this cell, creating it when the cell first displays a person.
+         */
+        private PersonCard getPersonCard() {
+            if (personCard == null) {
+                personCard = new PersonCard();
 
-            TitledPane newTitledPane = (TitledPane) newCard.getRoot().lookup("#cardPaneTitledPane");
-            if (newTitledPane != null) {
-                newTitledPane.setExpanded(isExpanded);
+                // Listen for expansion changes of whichever person the card displays and update the expanded set
+                personCard.expandedProperty().addListener((obs, oldVal, newVal) -> {
+                    Person person = getItem();
+                    if (person == null) {
+                        return;
+                    }
+                    if (newVal) {
+                        expandedOrgIds.add(person.getOrgID());
+                    } else {
+                        expandedOrgIds.remove(person.getOrgID());
+                    }
+                });
             }
+            return personCard;
         }
     }
 
@@ -2,10 +2,16 @@ package seedu.address.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.StringJoiner;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
+import seedu.address.model.tag.Status;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -14,15 +20,32 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private final StatusIndex statusIndex;
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label statusCounts;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, showing the number of persons with each status.
+     * The counts are refreshed from {@code statusIndex} whenever {@code persons} changes.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableList<Person> persons, StatusIndex statusIndex) {
         super(FXML);
+        this.statusIndex = statusIndex;
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        persons.addListener((ListChangeListener<Person>) change -> updateStatusCounts());
+        updateStatusCounts();
+    }
+
+    private void updateStatusCounts() {
+        StringJoiner counts = new StringJoiner(" | ");
+        for (Status status : Status.values()) {
+            counts.add(status.toDisplayString() + ": " + statusIndex.getCount(status));
+        }
+        statusCounts.setText(counts.toString());
     }
 
 }
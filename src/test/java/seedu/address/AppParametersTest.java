@@ -39,10 +39,49 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validBatchScriptPath_success() {
+        parametersStub.namedParameters.put("batch", "script.txt");
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidBatchScriptPath_success() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        expected.setBatchScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_username_success() {
+        parametersStub.namedParameters.put("username", "Admin");
+        expected.setUsername("Admin");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        expected.setUsername("Admin");
+        String[] args = {AppParameters.HEADLESS_FLAG, "--config=config.json", "--batch=script.txt", "--username=Admin",
+            "--=x", "extra"};
+        assertEquals(expected, AppParameters.parse(args));
+    }
+
+    @Test
+    public void isHeadless() {
+        assertTrue(AppParameters.isHeadless(new String[] {"--config=config.json", AppParameters.HEADLESS_FLAG}));
+        assertFalse(AppParameters.isHeadless(new String[] {"--config=config.json"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchScriptPath=" + appParameters.getBatchScriptPath() + ", username="
+                + appParameters.getUsername() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +105,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different username -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setUsername("Admin");
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,138 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_NOT_LOGGED_IN;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AuthenticateCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.exceptions.AuthenticateException;
+import seedu.address.model.Account;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    private static final String USERNAME = "Admin";
+    private static final String PASSWORD = "Admin@123";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs());
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private LogicManager logic;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        app = new HeadlessApp(logic);
+    }
+
+    @Test
+    public void logIn_missingCredentials_throwsAuthenticateException() {
+        model.addAccount(new Account(USERNAME, PASSWORD));
+        assertThrows(AuthenticateException.class, HeadlessApp.MESSAGE_MISSING_CREDENTIALS, ()
+            -> app.logIn(USERNAME, null));
+    }
+
+    @Test
+    public void logIn_noAccounts_throwsAuthenticateException() {
+        assertThrows(AuthenticateException.class, AuthenticateCommand.MESSAGE_FAILURE, ()
+            -> app.logIn(USERNAME, PASSWORD));
+    }
+
+    @Test
+    public void logIn_wrongPassword_throwsAuthenticateException() {
+        model.addAccount(new Account(USERNAME, PASSWORD));
+        assertThrows(AuthenticateException.class, AuthenticateCommand.MESSAGE_FAILURE, ()
+            -> app.logIn(USERNAME, "wrong"));
+    }
+
+    @Test
+    public void run_notLoggedIn_printsErrorAndFails() throws Exception {
+        String commands = PersonUtil.getAddCommand(AMY);
+
+        assertFalse(app.run(new BufferedReader(new StringReader(commands)), new PrintStream(output)));
+
+        assertEquals(List.of(String.format(HeadlessApp.MESSAGE_FAILURE, MESSAGE_NOT_LOGGED_IN)), getOutputLines());
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void run_validCommands_printsFeedbackAndSucceeds() throws Exception {
+        logInAsAdmin();
+        String commands = "# onboarding\n" + PersonUtil.getAddCommand(AMY) + "\n\n" + PersonUtil.getAddCommand(BOB);
+
+        assertTrue(app.run(new BufferedReader(new StringReader(commands)), new PrintStream(output)));
+
+        assertEquals(List.of(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(BOB))), getOutputLines());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void run_invalidCommand_printsErrorAndFails() throws Exception {
+        logInAsAdmin();
+        String commands = "unknown\n" + PersonUtil.getAddCommand(AMY);
+
+        assertFalse(app.run(new BufferedReader(new StringReader(commands)), new PrintStream(output)));
+
+        assertEquals(List.of(String.format(HeadlessApp.MESSAGE_FAILURE, MESSAGE_UNKNOWN_COMMAND),
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY))), getOutputLines());
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        logInAsAdmin();
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(ExitCommand.COMMAND_WORD, PersonUtil.getAddCommand(AMY)));
+
+        assertTrue(app.run(scriptPath, new PrintStream(output)));
+
+        assertEquals(List.of(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), getOutputLines());
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    private void logInAsAdmin() throws AuthenticateException {
+        model.addAccount(new Account(USERNAME, PASSWORD));
+        app.logIn(USERNAME, PASSWORD);
+    }
+
+    private List<String> getOutputLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
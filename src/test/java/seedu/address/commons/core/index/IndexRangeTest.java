@@ -0,0 +1,52 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    @Test
+    public void of_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexRange.of(Index.fromOneBased(3),
+                Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void of_singleIndex_startsAndEndsAtIndex() {
+        IndexRange range = IndexRange.of(Index.fromOneBased(4));
+        assertEquals(Index.fromOneBased(4), range.getStart());
+        assertEquals(Index.fromOneBased(4), range.getEnd());
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = IndexRange.of(Index.fromOneBased(2), Index.fromOneBased(5));
+
+        // same values -> returns true
+        assertTrue(range.equals(IndexRange.of(Index.fromZeroBased(1), Index.fromZeroBased(4))));
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different types -> returns false
+        assertFalse(range.equals(Index.fromOneBased(2)));
+
+        // different end -> returns false
+        assertFalse(range.equals(IndexRange.of(Index.fromOneBased(2), Index.fromOneBased(6))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IndexRange range = IndexRange.of(Index.fromZeroBased(0));
+        String expected = IndexRange.class.getCanonicalName() + "{start=" + range.getStart() + ", end="
+                + range.getEnd() + "}";
+        assertEquals(expected, range.toString());
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AhoCorasickMatcherTest {
+
+    @Test
+    public void forSubstrings_invalidNeedles_throwsException() {
+        assertThrows(NullPointerException.class, () -> AhoCorasickMatcher.forSubstrings(null));
+        assertThrows(NullPointerException.class, () -> AhoCorasickMatcher.forSubstrings(Arrays.asList("A", null)));
+        assertThrows(IllegalArgumentException.class, "Substring parameter cannot be empty", ()
+            -> AhoCorasickMatcher.forSubstrings(List.of("A", "")));
+    }
+
+    @Test
+    public void forWordsIgnoreCase_invalidWords_throwsException() {
+        assertThrows(NullPointerException.class, () -> AhoCorasickMatcher.forWordsIgnoreCase(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> AhoCorasickMatcher.forWordsIgnoreCase(List.of("abc", "  ")));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> AhoCorasickMatcher.forWordsIgnoreCase(List.of("aaa BBB")));
+    }
+
+    @Test
+    public void matches_noPatterns_returnsFalse() {
+        assertFalse(AhoCorasickMatcher.forSubstrings(Collections.emptyList()).matches("ANY TEXT"));
+        assertFalse(AhoCorasickMatcher.forWordsIgnoreCase(Collections.emptyList()).matches("any text"));
+    }
+
+    @Test
+    public void matches_substrings_correctResult() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.forSubstrings(List.of("HE", "SHE", "HIS", "HERS"));
+
+        assertTrue(matcher.matches("USHERS"));
+        assertTrue(matcher.matches("AHISB")); // pattern in the middle
+        assertTrue(matcher.matches("SHE")); // whole text
+        assertFalse(matcher.matches(""));
+        assertFalse(matcher.matches("HSIH"));
+        assertFalse(matcher.matches("he")); // texts must already be normalised
+    }
+
+    @Test
+    public void matches_wordsIgnoreCase_correctResult() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.forWordsIgnoreCase(List.of("bbb", " CcC@1 ", "b"));
+
+        assertTrue(matcher.matches("aaa BbB ccc")); // middle word
+        assertTrue(matcher.matches("aaa bbb ccc@1")); // last word
+        assertTrue(matcher.matches("  B  ")); // extra spaces
+        assertFalse(matcher.matches("aaa bbbb ccc")); // only a partial word
+        assertFalse(matcher.matches("abbb ccc@12"));
+    }
+
+    @Test
+    public void matches_randomPatterns_sameResultAsCheckingEachPattern() {
+        Random random = new Random(0);
+        for (int round = 0; round < 200; round++) {
+            List<String> patterns = new ArrayList<>();
+            int patternCount = 1 + random.nextInt(12);
+            for (int i = 0; i < patternCount; i++) {
+                patterns.add(randomString(random, 1 + random.nextInt(4), "abcAB"));
+            }
+            String text = randomString(random, random.nextInt(20), "abcAB ");
+
+            AhoCorasickMatcher substringMatcher = AhoCorasickMatcher.forSubstrings(patterns);
+            AhoCorasickMatcher wordMatcher = AhoCorasickMatcher.forWordsIgnoreCase(patterns);
+            assertEquals(patterns.stream().anyMatch(text::contains), substringMatcher.matches(text));
+            assertEquals(patterns.stream().anyMatch(pattern -> StringUtil.containsWordIgnoreCase(text, pattern)),
+                    wordMatcher.matches(text));
+        }
+    }
+
+    private static String randomString(Random random, int length, String characters) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(characters.charAt(random.nextInt(characters.length())));
+        }
+        return builder.toString();
+    }
+}
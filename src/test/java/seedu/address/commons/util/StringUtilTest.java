@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,33 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for normalised substring search -------------------------
+
+    @Test
+    public void toSearchNeedle_blankSubstring_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Substring parameter cannot be empty", ()
+            -> StringUtil.toSearchNeedle("  "));
+    }
+
+    @Test
+    public void containsNormalizedSubstring_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsNormalizedSubstring(null, "ABC"));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsNormalizedSubstring("ABC", null));
+    }
+
+    @Test
+    public void containsNormalizedSubstring_validInputs_sameResultAsContainsSubstringIgnoreCase() {
+        String[] texts = {"", "aaa bBb ccc", "Alex Yeoh", "alexyeoh@example.com", "Blk 30 Geylang Street 29"};
+        String[] substrings = {"a", "  bbB ", "x y", "YEOH@", "street 2", "zzz"};
+        for (String text : texts) {
+            for (String substring : substrings) {
+                assertEquals(StringUtil.containsSubstringIgnoreCase(text, substring),
+                        StringUtil.containsNormalizedSubstring(StringUtil.toSearchKey(text),
+                                StringUtil.toSearchNeedle(substring)));
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
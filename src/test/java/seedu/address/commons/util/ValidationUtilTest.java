@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric('a'));
+        assertTrue(ValidationUtil.isAlphanumeric('Z'));
+        assertTrue(ValidationUtil.isAlphanumeric('5'));
+        assertFalse(ValidationUtil.isAlphanumeric('_'));
+        assertFalse(ValidationUtil.isAlphanumeric(' '));
+        assertFalse(ValidationUtil.isAlphanumeric('\u00e9')); // only ASCII, as \p{Alnum}
+    }
+
+    @Test
+    public void isWhitespace() {
+        for (char c : " \t\n\u000B\f\r".toCharArray()) {
+            assertTrue(ValidationUtil.isWhitespace(c));
+        }
+        assertFalse(ValidationUtil.isWhitespace('a'));
+        assertFalse(ValidationUtil.isWhitespace('\u00a0')); // only ASCII, as \s
+    }
+
+    @Test
+    public void consistsOf() {
+        // null string
+        assertThrows(NullPointerException.class, () -> ValidationUtil.consistsOf(null, 0, ValidationUtil::isDigit));
+
+        assertTrue(ValidationUtil.consistsOf("", 0, ValidationUtil::isDigit));
+        assertTrue(ValidationUtil.consistsOf("123", 0, ValidationUtil::isDigit));
+        assertTrue(ValidationUtil.consistsOf("a23", 1, ValidationUtil::isDigit));
+        assertFalse(ValidationUtil.consistsOf("a23", 0, ValidationUtil::isDigit));
+        assertFalse(ValidationUtil.consistsOf("12a", 1, ValidationUtil::isDigit));
+    }
+
+    @Test
+    public void isDigits() {
+        // null string
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 1, 3));
+
+        // invalid lengths
+        assertFalse(ValidationUtil.isDigits("", 1, 3));
+        assertFalse(ValidationUtil.isDigits("1234", 1, 3));
+
+        // invalid characters
+        assertFalse(ValidationUtil.isDigits("1 2", 1, 3));
+        assertFalse(ValidationUtil.isDigits("-12", 1, 3));
+        assertFalse(ValidationUtil.isDigits("\u0661", 1, 3)); // non-ASCII digit
+
+        assertTrue(ValidationUtil.isDigits("1", 1, 3));
+        assertTrue(ValidationUtil.isDigits("123", 1, 3));
+        assertTrue(ValidationUtil.isDigits("", 0, 3));
+    }
+
+    @Test
+    public void matches() {
+        Pattern pattern = Pattern.compile("a+b");
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches(pattern, null));
+        assertTrue(ValidationUtil.matches(pattern, "aab"));
+        assertFalse(ValidationUtil.matches(pattern, "aabb")); // whole string only
+        assertFalse(ValidationUtil.matches(pattern, "xaab"));
+    }
+}
@@ -17,6 +17,8 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,9 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + " i/" + VALID_ORGID_AMY + " d/" + VALID_DEVICEINFO_AMY
+            + TAG_DESC_FRIEND + " st/" + VALID_STATUS_AMY;
 
     @TempDir
     public Path temporaryFolder;
@@ -77,17 +82,75 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsThatDoNotModifyAddressBook_doNotSave() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                savedAddressBooks.add(addressBook);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic.logUserIn("Admin");
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(0, savedAddressBooks.size());
+
+        logic.execute(ADD_COMMAND_AMY);
+        logic.flush();
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(List.of(new PersonBuilder(AMY).build()), savedAddressBooks.get(0).getPersonList());
+    }
+
+    @Test
+    public void flush_previousSaveFailed_savesAgain() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            private boolean hasFailed = false;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                savedAddressBooks.add(addressBook);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic.logUserIn("Admin");
+        List<String> reportedMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
+
+        // The save after the add command fails, so flushing saves the address book again
+        logic.execute(ADD_COMMAND_AMY);
+        logic.flush();
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                reportedMessages);
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(List.of(new PersonBuilder(AMY).build()), savedAddressBooks.get(0).getPersonList());
+
+        // Once saved, there is nothing left to save
+        logic.flush();
+        assertEquals(1, savedAddressBooks.size());
+    }
 
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
@@ -162,10 +225,10 @@ public class LogicManagerTest {
      * Storage component.
      *
      * @param e               the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the
-     *                        Logic component
+     * @param expectedMessage the message expected to be reported to the save failure
+     *                        handler of the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e
@@ -184,14 +247,18 @@ public class LogicManagerTest {
 
         logic = new LogicManager(model, storage);
         logic.logUserIn("Admin");
+        List<String> reportedMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
 
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + " i/" + VALID_ORGID_AMY + " d/" + VALID_DEVICEINFO_AMY
-                + TAG_DESC_FRIEND + " st/" + VALID_STATUS_AMY;
+        // Triggers the saveAddressBook method by executing an add command, which succeeds as the save happens later
         Person expectedPerson = new PersonBuilder(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(ADD_COMMAND_AMY, String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(expectedPerson)), expectedModel);
+
+        // The failed save is retried when flushed, and fails again
+        logic.flush();
+        assertEquals(List.of(expectedMessage, expectedMessage), reportedMessages);
     }
 }
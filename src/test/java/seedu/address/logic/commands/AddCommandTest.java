@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,7 +25,11 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -145,11 +150,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(Collection<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public NameIndex getNameIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TrigramIndex getTrigramIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StatusIndex getStatusIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TagIndex getTagIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -10,6 +10,7 @@ import static seedu.address.logic.commands.CreateUserCommand.MESSAGE_WHITESPACE;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +25,7 @@ import seedu.address.model.Account;
 import seedu.address.model.ReadOnlyAccountBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
 
 
 
@@ -119,6 +121,14 @@ public class AuthenticateCommandTest {
             return null;
         }
 
+        @Override
+        public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return null;
@@ -129,6 +139,11 @@ public class AuthenticateCommandTest {
             return null;
         }
 
+        @Override
+        public StatusIndex getStatusIndex() {
+            return null;
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             return null;
@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullScriptPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchCommand(null));
+    }
+
+    @Test
+    public void run_mixedScript_reportsEachLine() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(
+                "# onboarding",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                "unknown 1",
+                "  " + PersonUtil.getAddCommand(BOB) + "  ",
+                PersonUtil.getAddCommand(AMY),
+                ExitCommand.COMMAND_WORD));
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+        BatchReport report = new BatchCommand(scriptPath).run(model);
+
+        BatchReport expectedReport = new BatchReport();
+        expectedReport.addSuccess(2, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)));
+        expectedReport.addFailure(4, MESSAGE_UNKNOWN_COMMAND);
+        expectedReport.addSuccess(5, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(BOB)));
+        expectedReport.addFailure(6, AddCommand.MESSAGE_DUPLICATE_PERSON);
+        expectedReport.addFailure(7, String.format(BatchCommand.MESSAGE_NOT_SCRIPTABLE, ExitCommand.COMMAND_WORD));
+        assertEquals(expectedReport, report);
+        assertEquals(2, report.getSuccessCount());
+        assertEquals(3, report.getFailureCount());
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(AMY);
+        expectedAddressBook.addPerson(BOB);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_script_summaryAndEveryLine() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(PersonUtil.getAddCommand(ALICE), BatchCommand.COMMAND_WORD + " other.txt"));
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+        CommandResult result = new BatchCommand(scriptPath).execute(model);
+
+        String expectedFeedback = String.format(BatchCommand.MESSAGE_SUMMARY, 2, scriptPath, 1, 1) + "\n"
+                + String.format(BatchReport.MESSAGE_LINE_SUCCESS, 1,
+                        String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(ALICE))) + "\n"
+                + String.format(BatchReport.MESSAGE_LINE_FAILURE, 2,
+                        String.format(BatchCommand.MESSAGE_NOT_SCRIPTABLE, BatchCommand.COMMAND_WORD));
+        assertEquals(expectedFeedback, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void run_unexpectedFailure_undoesChanges() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB)));
+        Model model = new ModelManager(new AddressBook(), new UserPrefs()) {
+            @Override
+            public void addPerson(Person person) {
+                if (person.equals(BOB)) {
+                    throw new IllegalStateException();
+                }
+                super.addPerson(person);
+            }
+        };
+        model.addPerson(ALICE);
+
+        assertThrows(IllegalStateException.class, () -> new BatchCommand(scriptPath).run(model));
+
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        Model model = new ModelManager();
+        assertThrows(CommandException.class, () -> new BatchCommand(scriptPath).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchFirstCommand = new BatchCommand(Paths.get("first.txt"));
+        BatchCommand batchSecondCommand = new BatchCommand(Paths.get("second.txt"));
+
+        // same object -> returns true
+        assertTrue(batchFirstCommand.equals(batchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(batchFirstCommand.equals(new BatchCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(batchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(batchFirstCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(batchFirstCommand.equals(batchSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path scriptPath = Paths.get("script.txt");
+        String expected = BatchCommand.class.getCanonicalName() + "{scriptPath=" + scriptPath + "}";
+        assertEquals(expected, new BatchCommand(scriptPath).toString());
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CreateUserCommand.MESSAGE_WHITESPACE;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +22,7 @@ import seedu.address.model.Account;
 import seedu.address.model.ReadOnlyAccountBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusIndex;
 
 public class CreateUserCommandTest {
     private Logic logic = new LogicStub();
@@ -91,6 +93,14 @@ public class CreateUserCommandTest {
             return null;
         }
 
+        @Override
+        public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return null;
@@ -101,6 +111,11 @@ public class CreateUserCommandTest {
             return null;
         }
 
+        @Override
+        public StatusIndex getStatusIndex() {
+            return null;
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             return null;
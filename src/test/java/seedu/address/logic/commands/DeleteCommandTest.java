@@ -8,11 +8,15 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -79,6 +83,84 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_validIndexesUnfilteredList_success() {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        Person firstPerson = lastShownList.get(INDEX_FIRST_PERSON.getZeroBased());
+        Person thirdPerson = lastShownList.get(INDEX_THIRD_PERSON.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON),
+                IndexRange.of(INDEX_THIRD_PERSON)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(firstPerson);
+        expectedModel.deletePerson(thirdPerson);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneInvalidIndexUnfilteredList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON),
+                IndexRange.of(outOfBoundIndex)));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_overlappingRangesUnfilteredList_deletesEachPersonOnce() {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> personsToDelete = List.copyOf(lastShownList.subList(0, 3));
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(IndexRange.of(INDEX_SECOND_PERSON, INDEX_THIRD_PERSON),
+                IndexRange.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        personsToDelete.forEach(expectedModel::deletePerson);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_hugeRangeUnfilteredList_throwsCommandException() {
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON,
+                Index.fromOneBased(Integer.MAX_VALUE))));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_allShownUnfilteredList_throwsCommandException() {
+        assertCommandFailure(DeleteCommand.allShown(), model, DeleteCommand.MESSAGE_ALL_SHOWN_UNFILTERED);
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_allShownFilterMatchesEveryPerson_throwsCommandException() {
+        model.updateFilteredPersonList(person -> true);
+
+        assertCommandFailure(DeleteCommand.allShown(), model, DeleteCommand.MESSAGE_ALL_SHOWN_UNFILTERED);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_deletesShownPersonsOnly() {
+        Person hiddenPerson = model.getAddressBook().getPersonList().get(0);
+        model.updateFilteredPersonList(person -> !person.equals(hiddenPerson));
+        List<Person> shownPersons = List.copyOf(model.getFilteredPersonList());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, shownPersons.size());
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        shownPersons.forEach(expectedModel::deletePerson);
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(DeleteCommand.allShown(), model, expectedMessage, expectedModel);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -99,13 +181,21 @@ public class DeleteCommandTest {
 
         // different person -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // same indexes -> returns true
+        assertTrue(new DeleteCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON))).equals(deleteFirstCommand));
+
+        // all shown -> returns false
+        assertFalse(DeleteCommand.allShown().equals(new DeleteCommand(List.of())));
+        assertTrue(DeleteCommand.allShown().equals(DeleteCommand.allShown()));
     }
 
     @Test
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetRanges="
+                + List.of(IndexRange.of(targetIndex)) + ", isAllShown=false}";
         assertEquals(expected, deleteCommand.toString());
     }
 
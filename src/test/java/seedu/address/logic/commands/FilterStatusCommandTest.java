@@ -1,8 +1,13 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -10,7 +15,9 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Status;
+import seedu.address.testutil.PersonBuilder;
 
 public class FilterStatusCommandTest {
 
@@ -36,6 +43,27 @@ public class FilterStatusCommandTest {
         assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_statusChangedAfterFilter_listUpdated() throws Exception {
+        Status targetStatus = Status.PENDING_APPROVAL;
+        new FilterStatusCommand(targetStatus).execute(model);
+        assertEquals(Arrays.asList(DANIEL, GEORGE), model.getFilteredPersonList());
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withStatus("servicing").build();
+        model.setPerson(DANIEL, editedDaniel);
+        assertEquals(Arrays.asList(GEORGE), model.getFilteredPersonList());
+        assertEquals(1, model.getStatusIndex().getCount(targetStatus));
+    }
+
+    @Test
+    public void execute_personEditedIntoStatusAfterFilter_listUpdated() throws Exception {
+        new FilterStatusCommand(Status.PENDING_APPROVAL).execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withStatus("pending_approval").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl, DANIEL, GEORGE), model.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         Status statusA = Status.SERVICING;
@@ -2,20 +2,21 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ALREADY_LOGGED_IN;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -24,6 +25,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.exceptions.InvalidAccessRightsException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -36,11 +38,6 @@ public class AddressBookParserTest {
 
     private final AddressBookParser parser = new AddressBookParser();
 
-    private static boolean isUniqueStringArray(String[] strings) {
-        Set<String> stringSet = new HashSet<>(Arrays.asList(strings));
-        return stringSet.size() == strings.length;
-    }
-
     @Test
     public void parseCommand_add() throws Exception {
         Person person = new PersonBuilder().build();
@@ -48,6 +45,14 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " script.txt");
+        assertEquals(new BatchCommand(Paths.get("script.txt")), command);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(BatchCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -110,24 +115,23 @@ public class AddressBookParserTest {
     }
 
     @Test
-    public void commandWords_unique() {
-        assertTrue(isUniqueStringArray(AddressBookParser.COMMAND_WORDS_PREFIXED),
-                "COMMAND_WORDS_PREFIXED not unique");
-        assertTrue(isUniqueStringArray(AddressBookParser.COMMAND_WORDS_SINGLE_ARG),
-                "COMMAND_WORDS_SINGLE_ARG not unique");
-        assertTrue(isUniqueStringArray(AddressBookParser.COMMAND_WORDS_STANDALONE),
-                "COMMAND_WORDS_STANDALONE not unique");
-        assertTrue(isUniqueStringArray(AddressBookParser.COMMAND_WORDS_ADMIN_ONLY),
-                "COMMAND_WORDS_ADMIN_ONLY not unique");
-        assertTrue(isUniqueStringArray(AddressBookParser.COMMAND_WORDS_ALL),
-                "A command should only exist once in either "
-                        + "COMMAND_WORDS_PREFIXED, COMMAND_WORDS_SINGLE_ARG, COMMAND_WORDS_STANDALONE");
+    public void parseCommand_loginWhenLoggedIn_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_ALREADY_LOGGED_IN, () -> parser.parseCommand(
+                LoginCommand.COMMAND_WORD, false, true));
     }
 
     @Test
     public void parseCommand_unauthorizedAccess_throwsInvalidAccessRightsException() {
-        for (String command : AddressBookParser.COMMAND_WORDS_ADMIN_ONLY) {
-            assertThrows(InvalidAccessRightsException.class, () -> parser.parseCommand(command, false, false));
+        for (String command : CommandRegistry.getCommandWords()) {
+            CommandRegistry.RegisteredCommand registeredCommand = CommandRegistry.find(command).get();
+            if (!registeredCommand.isAllowedFor(CommandRegistry.ACCESS_LOGGED_OUT)) {
+                assertThrows(InvalidAccessRightsException.class, () -> parser.parseCommand(command, false, false));
+            }
+            // login when already logged in is rejected with a ParseException instead
+            if (!registeredCommand.isAllowedFor(CommandRegistry.ACCESS_USER)
+                    && !command.equals(LoginCommand.COMMAND_WORD)) {
+                assertThrows(InvalidAccessRightsException.class, () -> parser.parseCommand(command, false, true));
+            }
         }
     }
 }
@@ -136,6 +136,31 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixUsed() {
+        Prefix dashTag = new Prefix("-tag");
+        String argsString = "SomePreambleString -tag tag value -t dashT-Value -tagged";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTag);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTag, "tag value", "ged");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+    }
+
+    @Test
+    public void tokenize_samePrefixesAgain_sameResult() {
+        String argsString = "SomePreambleString -t dashT-Value p/ pSlash value";
+        ArgumentMultimap first = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        ArgumentMultimap second = ArgumentTokenizer.tokenize(argsString, new Prefix("p/"), new Prefix("-t"));
+        assertArgumentPresent(second, pSlash, "pSlash value");
+        assertArgumentPresent(second, dashT, "dashT-Value");
+        assertEquals(first.getPreamble(), second.getPreamble());
+
+        // a different set of prefixes is not matched with the trie of an earlier set
+        ArgumentMultimap fewerPrefixes = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(fewerPrefixes, "SomePreambleString -t dashT-Value");
+        assertArgumentAbsent(fewerPrefixes, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterStatusCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LoginCommand;
+import seedu.address.logic.parser.CommandRegistry.CommandSyntax;
+import seedu.address.logic.parser.CommandRegistry.RegisteredCommand;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void find_registeredCommand_returnsCommand() {
+        RegisteredCommand command = CommandRegistry.find(FilterStatusCommand.COMMAND_WORD).get();
+        assertEquals(FilterStatusCommand.COMMAND_WORD, command.getCommandWord());
+        assertEquals(CommandSyntax.PREFIXED, command.getSyntax());
+        assertEquals(List.of(PREFIX_STATUS), command.getPrefixes());
+
+        assertEquals(CommandSyntax.STANDALONE, CommandRegistry.find(ListCommand.COMMAND_WORD).get().getSyntax());
+        assertTrue(CommandRegistry.find(ListCommand.COMMAND_WORD).get().getPrefixes().isEmpty());
+    }
+
+    @Test
+    public void find_unknownCommand_returnsEmpty() {
+        assertTrue(CommandRegistry.find("unknownCommand").isEmpty());
+        assertTrue(CommandRegistry.find(AddCommand.COMMAND_WORD.substring(0, 1)).isEmpty());
+    }
+
+    @Test
+    public void isCommandWordPrefix() {
+        assertTrue(CommandRegistry.isCommandWordPrefix(""));
+        assertTrue(CommandRegistry.isCommandWordPrefix(ExitCommand.COMMAND_WORD.substring(0, 2)));
+        assertTrue(CommandRegistry.isCommandWordPrefix(ExitCommand.COMMAND_WORD));
+        assertFalse(CommandRegistry.isCommandWordPrefix(ExitCommand.COMMAND_WORD + " now"));
+        assertFalse(CommandRegistry.isCommandWordPrefix("unknownCommand"));
+    }
+
+    @Test
+    public void getAccessLevel() {
+        assertEquals(CommandRegistry.ACCESS_LOGGED_OUT, CommandRegistry.getAccessLevel(false, false));
+        assertEquals(CommandRegistry.ACCESS_LOGGED_OUT, CommandRegistry.getAccessLevel(true, false));
+        assertEquals(CommandRegistry.ACCESS_USER, CommandRegistry.getAccessLevel(false, true));
+        assertEquals(CommandRegistry.ACCESS_ADMIN, CommandRegistry.getAccessLevel(true, true));
+    }
+
+    @Test
+    public void isAllowedFor() {
+        RegisteredCommand add = CommandRegistry.find(AddCommand.COMMAND_WORD).get();
+        assertFalse(add.isAllowedFor(CommandRegistry.ACCESS_LOGGED_OUT));
+        assertFalse(add.isAllowedFor(CommandRegistry.ACCESS_USER));
+        assertTrue(add.isAllowedFor(CommandRegistry.ACCESS_ADMIN));
+
+        RegisteredCommand login = CommandRegistry.find(LoginCommand.COMMAND_WORD).get();
+        assertTrue(login.isAllowedFor(CommandRegistry.ACCESS_LOGGED_OUT));
+        assertFalse(login.isAllowedFor(CommandRegistry.ACCESS_ADMIN));
+
+        RegisteredCommand exit = CommandRegistry.find(ExitCommand.COMMAND_WORD).get();
+        assertTrue(exit.isAllowedFor(CommandRegistry.ACCESS_LOGGED_OUT));
+        assertTrue(exit.isAllowedFor(CommandRegistry.ACCESS_USER));
+        assertTrue(exit.isAllowedFor(CommandRegistry.ACCESS_ADMIN));
+    }
+}
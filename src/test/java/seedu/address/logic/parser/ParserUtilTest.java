@@ -9,10 +9,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -60,6 +63,33 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRanges_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRanges("1,a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRanges("1,,2"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+            -> ParserUtil.parseIndexRanges("5-3"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+            -> ParserUtil.parseIndexRanges("1-2-3"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+            -> ParserUtil.parseIndexRanges("0-3"));
+    }
+
+    @Test
+    public void parseIndexRanges_validInput_success() throws Exception {
+        assertEquals(List.of(IndexRange.of(INDEX_FIRST_PERSON)), ParserUtil.parseIndexRanges(" 1 "));
+
+        // Ranges and single indexes, out of order and overlapping
+        assertEquals(List.of(IndexRange.of(Index.fromOneBased(7)),
+                IndexRange.of(Index.fromOneBased(3), Index.fromOneBased(5)), IndexRange.of(Index.fromOneBased(1)),
+                IndexRange.of(Index.fromOneBased(4), Index.fromOneBased(4))),
+                ParserUtil.parseIndexRanges("7, 3 - 5,1,4-4"));
+
+        // Huge range -> kept as its two ends
+        assertEquals(List.of(IndexRange.of(INDEX_FIRST_PERSON, Index.fromOneBased(Integer.MAX_VALUE))),
+                ParserUtil.parseIndexRanges("1-" + Integer.MAX_VALUE));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
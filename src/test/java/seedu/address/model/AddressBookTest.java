@@ -19,7 +19,10 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.person.TrigramIndex.Field;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -79,6 +82,63 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getNameIndex_afterPersonOperations_tracksCurrentNames() {
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getNameIndex().getPersons("alice").contains(ALICE));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertTrue(addressBook.getNameIndex().getPersons("alice").isEmpty());
+        assertTrue(addressBook.getNameIndex().getPersons("alicia").contains(renamedAlice));
+
+        addressBook.removePerson(renamedAlice);
+        assertTrue(addressBook.getNameIndex().getPersons("alicia").isEmpty());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getNameIndex().getPersons("alice").contains(ALICE));
+    }
+
+    @Test
+    public void getNameIndex_firstUsedAfterPersonsAdded_includesExistingPersons() {
+        AddressBook typicalAddressBook = new AddressBook(getTypicalAddressBook());
+        assertTrue(typicalAddressBook.getNameIndex().getPersons("alice").contains(ALICE));
+
+        // the index is kept up to date once built
+        typicalAddressBook.removePerson(ALICE);
+        assertFalse(typicalAddressBook.getNameIndex().getPersons("alice").contains(ALICE));
+    }
+
+    @Test
+    public void getTrigramIndex_firstUsedAfterPersonsAdded_includesExistingPersons() {
+        AddressBook typicalAddressBook = new AddressBook(getTypicalAddressBook());
+        assertTrue(typicalAddressBook.getTrigramIndex().getCandidates(Field.NAME, "Pauline").contains(ALICE));
+
+        // the index is kept up to date once built
+        typicalAddressBook.removePerson(ALICE);
+        assertFalse(typicalAddressBook.getTrigramIndex().getCandidates(Field.NAME, "Pauline").contains(ALICE));
+    }
+
+    @Test
+    public void getStatusIndex_firstUsedAfterPersonsAdded_includesExistingPersons() {
+        AddressBook typicalAddressBook = new AddressBook(getTypicalAddressBook());
+        assertTrue(typicalAddressBook.getStatusIndex().getPersons(ALICE.getStatus()).contains(ALICE));
+
+        // the index is kept up to date once built
+        typicalAddressBook.removePerson(ALICE);
+        assertFalse(typicalAddressBook.getStatusIndex().getPersons(ALICE.getStatus()).contains(ALICE));
+    }
+
+    @Test
+    public void getTagIndex_firstUsedAfterPersonsAdded_includesExistingPersons() {
+        AddressBook typicalAddressBook = new AddressBook(getTypicalAddressBook());
+        TagIndex tagIndex = typicalAddressBook.getTagIndex();
+        assertTrue(tagIndex.getPersons(tagIndex.getPersonsWithTag(new Tag("friends"))).contains(ALICE));
+
+        // the index is kept up to date once built
+        typicalAddressBook.removePerson(ALICE);
+        assertFalse(tagIndex.getPersons(tagIndex.getPersonsWithTag(new Tag("friends"))).contains(ALICE));
+    }
 
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
@@ -7,16 +7,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +94,67 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedNamePredicate_reevaluatesEditedPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("alice"));
+        modelManager.updateFilteredPersonList(predicate.withIndex(modelManager.getNameIndex()));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(ALICE, renamedBenson), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Pauline").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(renamedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refiningPredicate_testsOnlyShownPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        List<Person> testedPersons = new ArrayList<>();
+        modelManager.updateFilteredPersonList(new RefiningPredicate<Person>() {
+            @Override
+            public boolean test(Person person) {
+                testedPersons.add(person);
+                return person.equals(DANIEL);
+            }
+
+            @Override
+            public boolean isRefinementOf(Predicate<Person> other) {
+                return true;
+            }
+        });
+        assertEquals(Arrays.asList(BENSON, DANIEL), testedPersons);
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinedKeywords_sameResultAsFullFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Meier")));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // persons changed after narrowing are tested against the new filter alone
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(renamedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // filters that do not refine the current one are evaluated on every person
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("daniel", "benson")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
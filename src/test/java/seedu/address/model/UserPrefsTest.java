@@ -1,9 +1,13 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.util.JsonUtil;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +22,17 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void addressBookFormat_readFromJson() throws Exception {
+        assertEquals(AddressBookFormat.JSON, JsonUtil.fromJsonString("{}", UserPrefs.class).getAddressBookFormat());
+        assertEquals(AddressBookFormat.BINARY, JsonUtil.fromJsonString("{\"addressBookFormat\": \"BINARY\"}",
+                UserPrefs.class).getAddressBookFormat());
+    }
+
 }
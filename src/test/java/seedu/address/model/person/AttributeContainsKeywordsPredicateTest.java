@@ -11,6 +11,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.function.Function;
 
@@ -56,6 +57,34 @@ public class AttributeContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void isRefinementOf() {
+        ArgumentMultimap map = new ArgumentMultimap();
+        map.put(PREFIX_NAME, "ali");
+        map.put(PREFIX_TAG, "dev");
+        AttributeContainsKeywordsPredicate predicate = new AttributeContainsKeywordsPredicate(map);
+
+        // every keyword contains a keyword of the same prefix -> returns true
+        ArgumentMultimap longerKeywords = new ArgumentMultimap();
+        longerKeywords.put(PREFIX_NAME, "ALICE");
+        longerKeywords.put(PREFIX_TAG, "devops");
+        assertTrue(new AttributeContainsKeywordsPredicate(longerKeywords).isRefinementOf(predicate));
+        assertTrue(predicate.isRefinementOf(predicate));
+
+        // keyword of another prefix -> returns false
+        ArgumentMultimap otherPrefix = new ArgumentMultimap();
+        otherPrefix.put(PREFIX_EMAIL, "alice");
+        assertFalse(new AttributeContainsKeywordsPredicate(otherPrefix).isRefinementOf(predicate));
+
+        // shorter keyword -> returns false
+        ArgumentMultimap shorterKeywords = new ArgumentMultimap();
+        shorterKeywords.put(PREFIX_NAME, "al");
+        assertFalse(new AttributeContainsKeywordsPredicate(shorterKeywords).isRefinementOf(predicate));
+
+        // different predicate type -> returns false
+        assertFalse(predicate.isRefinementOf(person -> true));
+    }
+
     @Test
     public void test_emptyAttributes_returnsFalse() {
         ArgumentMultimap argumentMultimap = new ArgumentMultimap();
@@ -224,6 +253,47 @@ public class AttributeContainsKeywordsPredicateTest {
         assertEquals(expected, predicate.toString());
     }
 
+    @Test
+    public void test_withIndex_matchesUnindexedPredicate() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        TagIndex tagIndex = new TagIndex();
+        getTypicalPersons().forEach(trigramIndex::add);
+        tagIndex.setPersons(getTypicalPersons());
+
+        String[][] queries = {
+            {"n/", "meier"}, {"n/", "Al"}, {"e/", "example.com"}, {"t/", "friend"}, {"t/", "ow"}, {"a/", "street"},
+            {"i/", "000012"}, {"d/", "deviceA"}, {"st/", "hold"}, {"p/", "9482"}, {"n/", "nobody"}
+        };
+        for (String[] query : queries) {
+            ArgumentMultimap argumentMultimap = new ArgumentMultimap();
+            argumentMultimap.put(new Prefix(query[0]), query[1]);
+            AttributeContainsKeywordsPredicate predicate = new AttributeContainsKeywordsPredicate(argumentMultimap);
+            AttributeContainsKeywordsPredicate indexedPredicate = predicate.withIndexes(trigramIndex, tagIndex);
+            for (Person person : getTypicalPersons()) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person));
+            }
+        }
+    }
+
+    @Test
+    public void test_withIndexAfterIndexChanges_matchesNewPersons() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        TagIndex tagIndex = new TagIndex();
+        ArgumentMultimap argumentMultimap = new ArgumentMultimap();
+        argumentMultimap.put(PREFIX_NAME, "Amy");
+        argumentMultimap.put(PREFIX_TAG, DEFAULT_TAG_A);
+        AttributeContainsKeywordsPredicate predicate = new AttributeContainsKeywordsPredicate(argumentMultimap)
+                .withIndexes(trigramIndex, tagIndex);
+
+        Person person = defaultPerson.build();
+        trigramIndex.add(person);
+        assertTrue(predicate.test(person));
+        trigramIndex.remove(person);
+        assertFalse(predicate.test(person));
+        tagIndex.add(person);
+        assertTrue(predicate.test(person));
+    }
+
     private void assertAttributeContainsKeywordsTrue(Prefix prefix, String keyword,
                                                      Function<PersonBuilder, PersonBuilder> personModifier) {
         ArgumentMultimap map = new ArgumentMultimap();
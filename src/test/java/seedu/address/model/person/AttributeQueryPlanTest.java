@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.AhoCorasickMatcher;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttributeQueryPlanTest {
+
+    private final Person person = new PersonBuilder().withName("Alice Pauline").withEmail("alice@example.com")
+            .withStatus("servicing").withTags("friends").build();
+
+    @Test
+    public void compile_nullMap_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AttributeQueryPlan.compile(null));
+    }
+
+    @Test
+    public void compile_blankKeyword_throwsIllegalArgumentException() {
+        ArgumentMultimap argumentMultimap = new ArgumentMultimap();
+        argumentMultimap.put(PREFIX_NAME, "  ");
+        assertThrows(IllegalArgumentException.class, () -> AttributeQueryPlan.compile(argumentMultimap));
+    }
+
+    @Test
+    public void matches_noKeywords_returnsFalse() {
+        assertFalse(AttributeQueryPlan.compile(new ArgumentMultimap()).matches(person));
+    }
+
+    @Test
+    public void matches_anyKeywordOfAnyPrefix_returnsTrue() {
+        ArgumentMultimap argumentMultimap = new ArgumentMultimap();
+        argumentMultimap.put(PREFIX_NAME, "bob");
+        argumentMultimap.put(PREFIX_NAME, " PAUL ");
+        assertTrue(AttributeQueryPlan.compile(argumentMultimap).matches(person));
+
+        argumentMultimap = new ArgumentMultimap();
+        argumentMultimap.put(PREFIX_EMAIL, "@gmail");
+        argumentMultimap.put(PREFIX_TAG, "FRIEND");
+        assertTrue(AttributeQueryPlan.compile(argumentMultimap).matches(person));
+
+        argumentMultimap = new ArgumentMultimap();
+        argumentMultimap.put(PREFIX_STATUS, "Servic");
+        assertTrue(AttributeQueryPlan.compile(argumentMultimap).matches(person));
+    }
+
+    @Test
+    public void matches_manyKeywords_sameResultAsFewKeywords() {
+        ArgumentMultimap argumentMultimap = new ArgumentMultimap();
+        for (int i = 0; i < AhoCorasickMatcher.MIN_PATTERN_COUNT; i++) {
+            argumentMultimap.put(PREFIX_NAME, "bob" + i);
+        }
+        assertFalse(AttributeQueryPlan.compile(argumentMultimap).matches(person));
+
+        argumentMultimap.put(PREFIX_NAME, "line");
+        assertTrue(AttributeQueryPlan.compile(argumentMultimap).matches(person));
+    }
+
+    @Test
+    public void matches_noKeywordContained_returnsFalse() {
+        ArgumentMultimap argumentMultimap = new ArgumentMultimap();
+        argumentMultimap.put(PREFIX_NAME, "bob");
+        argumentMultimap.put(PREFIX_EMAIL, "@gmail");
+        argumentMultimap.put(PREFIX_TAG, "colleagues");
+        argumentMultimap.put(PREFIX_STATUS, "on_hold");
+        assertFalse(AttributeQueryPlan.compile(argumentMultimap).matches(person));
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.AhoCorasickMatcher;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +75,79 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_manyKeywords_sameResultAsFewKeywords() {
+        List<String> keywords = List.of("Carol", "Dave", "Erin", "Frank", "Grace", "Heidi", "Ivan", "bOB");
+        assertTrue(keywords.size() >= AhoCorasickMatcher.MIN_PATTERN_COUNT);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bobby").build()));
+    }
+
+    @Test
+    public void test_withIndex_onlyIndexedMatchesReturnTrue() {
+        Person aliceBob = new PersonBuilder().withName("Alice Bob").build();
+        Person aliceBobby = new PersonBuilder().withName("Alice Bobby").build();
+        NameIndex nameIndex = new NameIndex();
+        nameIndex.add(aliceBob);
+        nameIndex.add(aliceBobby);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("bOB", "Carol"))
+                .withIndex(nameIndex);
+
+        assertTrue(predicate.test(aliceBob));
+        assertFalse(predicate.test(aliceBobby));
+
+        // index changes after the candidates are looked up -> candidates are looked up again
+        Person carol = new PersonBuilder().withName("Carol").build();
+        nameIndex.add(carol);
+        nameIndex.remove(aliceBob);
+        assertTrue(predicate.test(carol));
+        assertFalse(predicate.test(aliceBob));
+    }
+
+    @Test
+    public void test_withIndex_matchesWholeWordsIgnoringCase() {
+        Person annLee = new PersonBuilder().withName("Ann  Lee ").build();
+        NameIndex nameIndex = new NameIndex();
+        nameIndex.add(annLee);
+
+        assertTrue(new NameContainsKeywordsPredicate(List.of("aNN")).withIndex(nameIndex).test(annLee));
+        assertTrue(new NameContainsKeywordsPredicate(List.of("LEE")).withIndex(nameIndex).test(annLee));
+        assertFalse(new NameContainsKeywordsPredicate(List.of("An")).withIndex(nameIndex).test(annLee));
+        assertFalse(new NameContainsKeywordsPredicate(List.of("")).withIndex(nameIndex).test(annLee));
+    }
+
+    @Test
+    public void test_withIndexSameNameDifferentPersons_tracksEachPerson() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person otherAlice = new PersonBuilder().withName("Alice").withOrgID("0000009999").build();
+        NameIndex nameIndex = new NameIndex();
+        nameIndex.add(alice);
+        nameIndex.add(otherAlice);
+        nameIndex.remove(alice);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("alice"))
+                .withIndex(nameIndex);
+
+        assertFalse(predicate.test(alice));
+        assertTrue(predicate.test(otherAlice));
+    }
+
+    @Test
+    public void isRefinementOf() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"));
+
+        // subset of keywords, ignoring case -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("bob")).isRefinementOf(predicate));
+        assertTrue(predicate.isRefinementOf(predicate));
+
+        // keyword not in other predicate -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("Bob", "Carol")).isRefinementOf(predicate));
+
+        // different predicate type -> returns false
+        assertFalse(predicate.isRefinementOf(person -> true));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
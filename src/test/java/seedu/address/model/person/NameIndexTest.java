@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.add(null));
+    }
+
+    @Test
+    public void getPersons_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getPersons(null));
+    }
+
+    @Test
+    public void getPersons_wordInNames_returnsEachPerson() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        assertEquals(Set.of(ALICE), nameIndex.getPersons("aLiCe"));
+        assertTrue(nameIndex.getPersons("Ali").isEmpty());
+    }
+
+    @Test
+    public void getPersons_afterRemove_returnsEmptySet() {
+        nameIndex.add(ALICE);
+        nameIndex.remove(ALICE);
+        assertTrue(nameIndex.getPersons("Alice").isEmpty());
+    }
+
+    @Test
+    public void getModificationCount_afterAddOrRemove_changes() {
+        int initialCount = nameIndex.getModificationCount();
+        nameIndex.add(ALICE);
+        int countAfterAdd = nameIndex.getModificationCount();
+        assertTrue(countAfterAdd != initialCount);
+        nameIndex.remove(ALICE);
+        assertTrue(nameIndex.getModificationCount() != countAfterAdd);
+    }
+}
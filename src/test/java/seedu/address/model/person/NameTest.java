@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,13 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofValidated_validName_equalsConstructedName() {
+        assertEquals(new Name("peter jack"), Name.ofValidated("peter jack"));
+        assertThrows(NullPointerException.class, () -> Name.ofValidated(null));
+        assertThrows(AssertionError.class, () -> Name.ofValidated("peter*"));
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Status;
+
+public class StatusIndexTest {
+
+    private final StatusIndex statusIndex = new StatusIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> statusIndex.add(null));
+    }
+
+    @Test
+    public void getCount_personAdded_countedInItsBucket() {
+        statusIndex.add(ALICE);
+        assertEquals(1, statusIndex.getCount(Status.ON_HOLD));
+        assertEquals(0, statusIndex.getCount(Status.NONE));
+    }
+
+    @Test
+    public void getCount_afterRemove_notCounted() {
+        statusIndex.add(ALICE);
+        statusIndex.remove(ALICE);
+        assertEquals(0, statusIndex.getCount(Status.ON_HOLD));
+    }
+
+    @Test
+    public void getPersons_afterAddAndRemove_reflectsBucket() {
+        Set<Person> onHold = statusIndex.getPersons(Status.ON_HOLD);
+        statusIndex.add(ALICE);
+        assertTrue(onHold.contains(ALICE));
+        assertFalse(statusIndex.getPersons(Status.NONE).contains(ALICE));
+
+        statusIndex.remove(ALICE);
+        assertFalse(onHold.contains(ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> onHold.add(CARL));
+    }
+
+    @Test
+    public void getCount_typicalPersons_matchesLinearCount() {
+        getTypicalPersons().forEach(statusIndex::add);
+        for (Status status : Status.values()) {
+            long expected = getTypicalPersons().stream().filter(person -> person.getStatus() == status).count();
+            assertEquals(expected, statusIndex.getCount(status));
+        }
+
+        statusIndex.remove(CARL);
+        assertEquals(getTypicalPersons().stream().filter(person -> person.getStatus() == Status.NONE).count() - 1,
+                statusIndex.getCount(Status.NONE));
+    }
+}
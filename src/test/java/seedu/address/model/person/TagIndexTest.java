@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void getPersonsWithTag_setAlgebra() {
+        tagIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        BitSet friends = tagIndex.getPersonsWithTag(new Tag("friends"));
+        BitSet owesMoney = tagIndex.getPersonsWithTag(new Tag("owesMoney"));
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), tagIndex.getPersons(friends));
+
+        BitSet both = (BitSet) friends.clone();
+        both.and(owesMoney);
+        assertEquals(List.of(BENSON), tagIndex.getPersons(both));
+
+        BitSet notFriends = tagIndex.getAllPersons();
+        notFriends.andNot(friends);
+        assertEquals(List.of(CARL), tagIndex.getPersons(notFriends));
+    }
+
+    @Test
+    public void getPersonsWithTagContaining_caseInsensitiveSubstring() {
+        tagIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Arrays.asList(BENSON), tagIndex.getPersons(tagIndex.getPersonsWithTagContaining("MONEY")));
+        assertEquals(Arrays.asList(ALICE, BENSON), tagIndex.getPersons(tagIndex.getPersonsWithTagContaining("fri")));
+    }
+
+    @Test
+    public void remove_thenAdd_reusesIdAndUpdatesTags() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.remove(ALICE);
+        assertEquals(List.of(BENSON), tagIndex.getPersons(tagIndex.getPersonsWithTag(new Tag("friends"))));
+
+        tagIndex.add(DANIEL);
+        assertEquals(Arrays.asList(DANIEL, BENSON), tagIndex.getPersons(tagIndex.getAllPersons()));
+    }
+
+    @Test
+    public void getPersonsWithTag_unknownTag_returnsEmpty() {
+        tagIndex.add(ALICE);
+        assertTrue(tagIndex.getPersonsWithTag(new Tag("unknown")).isEmpty());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    @Test
+    public void isIndexable() {
+        assertFalse(TrigramIndex.isIndexable("ab"));
+        assertFalse(TrigramIndex.isIndexable(" ab "));
+        assertTrue(TrigramIndex.isIndexable("abc"));
+    }
+
+    @Test
+    public void getCandidates_matchingKeyword_containsPerson() {
+        trigramIndex.add(ALICE);
+        trigramIndex.add(BENSON);
+        assertEquals(Set.of(ALICE), trigramIndex.getCandidates(TrigramIndex.Field.NAME, "aLIce"));
+        assertEquals(Set.of(ALICE), trigramIndex.getCandidates(TrigramIndex.Field.EMAIL, "alice@"));
+        assertEquals(Set.of(BENSON), trigramIndex.getCandidates(TrigramIndex.Field.NAME, "meier"));
+    }
+
+    @Test
+    public void getCandidates_keywordInOtherField_excludesPerson() {
+        trigramIndex.add(ALICE);
+        assertTrue(trigramIndex.getCandidates(TrigramIndex.Field.ADDRESS, "alice").isEmpty());
+    }
+
+    @Test
+    public void getCandidates_afterRemove_excludesPerson() {
+        trigramIndex.add(ALICE);
+        int modificationCount = trigramIndex.getModificationCount();
+        trigramIndex.remove(ALICE);
+        assertTrue(trigramIndex.getCandidates(TrigramIndex.Field.NAME, "alice").isEmpty());
+        assertTrue(trigramIndex.getModificationCount() > modificationCount);
+    }
+
+    @Test
+    public void getCandidates_supersetOfLinearMatches() {
+        getTypicalPersons().forEach(trigramIndex::add);
+        for (String keyword : new String[] {"mei", "meier", "street", "example.com", "device", "000012", "XYZ"}) {
+            Set<Person> candidates = trigramIndex.getCandidates(TrigramIndex.Field.NAME, keyword);
+            for (Person person : getTypicalPersons()) {
+                if (StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword)) {
+                    assertTrue(candidates.contains(person));
+                }
+            }
+        }
+    }
+}
@@ -8,13 +8,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -127,6 +133,41 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsInOneRemovalOnlyChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        List<Person> removed = new ArrayList<>();
+        List<Boolean> wereAdded = new ArrayList<>();
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                wereAdded.add(change.wasAdded());
+            }
+        });
+
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertFalse(wereAdded.contains(true));
+        assertEquals(2, removed.size());
+        assertTrue(removed.containsAll(Arrays.asList(ALICE, CARL)));
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.setPerson(BOB, CARL);
+        assertEquals(Collections.singletonList(CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +203,83 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterIdentityChangingEdit_tracksNewIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_afterEarlierRemoval_replacesCorrectPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_list_indexRebuilt() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Arrays.asList(BOB, CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(CARL));
+        uniquePersonList.remove(CARL);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void randomOperations_matchLinearSemantics() {
+        List<Person> candidates = new ArrayList<>(getTypicalPersons());
+        candidates.add(BOB);
+        List<Person> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 500; step++) {
+            Person person = candidates.get(random.nextInt(candidates.size()));
+            boolean linearContains = expected.stream().anyMatch(person::isSamePerson);
+            assertEquals(linearContains, uniquePersonList.contains(person));
+
+            if (random.nextBoolean() && !linearContains) {
+                uniquePersonList.add(person);
+                expected.add(person);
+            } else if (!expected.isEmpty()) {
+                Person target = expected.get(random.nextInt(expected.size()));
+                if (random.nextBoolean()) {
+                    uniquePersonList.remove(target);
+                    expected.remove(target);
+                } else if (target.isSamePerson(person) || !linearContains) {
+                    uniquePersonList.setPerson(target, person);
+                    expected.set(expected.indexOf(target), person);
+                } else {
+                    assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(target, person));
+                }
+            }
+            assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("AddressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("AddressBook.bin"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Empty address books are also kept
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("AddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("AddressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Saving converts the file to a binary snapshot
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(BinaryAddressBookStorage.MAGIC_NUMBER, ByteBuffer.wrap(Files.readAllBytes(filePath)).getInt());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        byte[] flipped = bytes.clone();
+        flipped[bytes.length / 2] ^= 1;
+        Files.write(filePath, flipped);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Files.write(filePath, truncated);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putInt(BinaryAddressBookStorage.MAGIC_NUMBER).putInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, buffer.array());
+        assertThrows(DataLoadingException.class, new BinaryAddressBookStorage(filePath)::readAddressBook);
+    }
+
+    @Test
+    public void decode_mappedOrDirectBuffer_sameAsHeapBuffer() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertEquals(original, new BinarySnapshotDecoder(ByteBuffer.wrap(bytes)).decode());
+        assertEquals(original, new BinarySnapshotDecoder(directBuffer).decode());
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            assertEquals(original, new BinarySnapshotDecoder(mappedBuffer).decode());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("AddressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("AddressBook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        // First save writes a full snapshot
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Later saves only append the changes to the journal
+        String snapshot = Files.readString(filePath);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // Replaying the journal restores the same persons in the same order
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(newStorage.readAddressBook().get()));
+
+        // Saving without changes appends nothing
+        newStorage.saveAddressBook(original);
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        AddressBook reordered = new AddressBook();
+        reordered.addPerson(BENSON);
+        reordered.addPerson(ALICE);
+        reordered.addPerson(HOON);
+        storage.saveAddressBook(reordered);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(reordered, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalOverThreshold_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(filePath), 1, Duration.ofMinutes(10));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastChange_ignoresChange() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        expected.addPerson(HOON);
+
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"put\",\"person\":{\"na", StandardOpenOption.APPEND);
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(filePath);
+        assertEquals(expected, new AddressBook(newStorage.readAddressBook().get()));
+
+        // The next save starts a new journal instead of appending to the incomplete change
+        expected.addPerson(IDA);
+        newStorage.saveAddressBook(expected);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(expected, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidChange_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"remove\",\"orgid\":\"\"}\n");
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_interruptedSnapshot_recovered() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        Path newSnapshotFilePath = filePath.resolveSibling(
+                filePath.getFileName() + JournaledAddressBookStorage.NEW_SNAPSHOT_FILE_SUFFIX);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // A new snapshot with the journal still present may be incomplete, and is discarded
+        Files.writeString(newSnapshotFilePath, "{\"persons\": [");
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(newSnapshotFilePath));
+
+        // A new snapshot with the journal deleted is complete, and replaces the old one
+        AddressBook newAddressBook = new AddressBook();
+        newAddressBook.addPerson(IDA);
+        new JsonAddressBookStorage(newSnapshotFilePath).saveAddressBook(newAddressBook);
+        Files.delete(storage.getJournalFilePath());
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(newAddressBook, new AddressBook(readBack));
+        assertFalse(Files.exists(newSnapshotFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotOnly() throws Exception {
+        Path otherFilePath = testFolder.resolve("Other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("AddressBook.json"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("AddressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
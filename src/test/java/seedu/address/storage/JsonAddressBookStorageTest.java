@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,8 +10,12 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +91,35 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compactByDefault_prettyPrintedIfRequested() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(original);
+        assertTrue(Files.readAllLines(filePath).size() > original.getPersonList().size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_replacedWithoutTempFiles() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
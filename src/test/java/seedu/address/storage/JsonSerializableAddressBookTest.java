@@ -2,15 +2,32 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -40,8 +57,114 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, "0000000123"),
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_multipleDuplicates_reportsAllOrgIds() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = new ArrayList<>();
+        for (Person person : Arrays.asList(ALICE, BENSON, ALICE, CARL, BENSON, ALICE)) {
+            jsonPersons.add(new JsonAdaptedPerson(person));
+        }
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(jsonPersons);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                        ALICE.getOrgID() + ", " + BENSON.getOrgID()),
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_multipleInvalidPersons_reportsAllPositions() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = List.of(new JsonAdaptedPerson(ALICE), withInvalidName(BENSON),
+                new JsonAdaptedPerson(CARL), withInvalidName(DANIEL), new JsonAdaptedPerson(ALICE));
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 2,
+                Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 4, Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, ALICE.getOrgID());
+        assertThrows(IllegalValueException.class, expectedMessage,
+                new JsonSerializableAddressBook(jsonPersons)::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersons_orderKept() throws Exception {
+        AddressBook expected = new AddressBook();
+        List<JsonAdaptedPerson> jsonPersons = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            Person person = new PersonBuilder().withOrgID(String.valueOf(i)).build();
+            expected.addPerson(person);
+            jsonPersons.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(expected, new JsonSerializableAddressBook(jsonPersons).toModelType());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableAddressBook.writeModelType(expected, out, false);
+        assertEquals(expected, JsonSerializableAddressBook.readModelType(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readModelType(in));
+        }
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(in));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class,
+                    String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, "0000000123"), ()
+                    -> JsonSerializableAddressBook.readModelType(in));
+        }
+    }
+
+    @Test
+    public void readModelType_otherProperties_skipped() throws Exception {
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        String json = "{\"version\": {\"major\": [1, 2]}, \"persons\": "
+                + JsonUtil.toJsonString(List.of(new JsonAdaptedPerson(ALICE))) + ", \"comment\": null}";
+        assertEquals(expected, JsonSerializableAddressBook.readModelType(toInputStream(json)));
+        assertEquals(new AddressBook(), JsonSerializableAddressBook.readModelType(toInputStream("{}")));
+    }
+
+    @Test
+    public void readModelType_notAddressBookFormat_throwsIoException() {
+        for (String json : List.of("", "not json format!", "[]", "{\"persons\": null}", "{\"persons\": [1]}",
+                "{\"persons\": [")) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.readModelType(toInputStream(json)));
+        }
+    }
+
+    @Test
+    public void writeModelType_typicalPersons_readBackEqual() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        for (boolean isPrettyPrinted : List.of(false, true)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonSerializableAddressBook.writeModelType(typicalPersonsAddressBook, out, isPrettyPrinted);
+            assertEquals(typicalPersonsAddressBook, JsonSerializableAddressBook.readModelType(
+                    new ByteArrayInputStream(out.toByteArray())));
+            assertEquals(typicalPersonsAddressBook, JsonUtil.fromJsonString(out.toString(StandardCharsets.UTF_8),
+                    JsonSerializableAddressBook.class).toModelType());
+        }
+    }
+
+    private static JsonAdaptedPerson withInvalidName(Person person) {
+        return new JsonAdaptedPerson("R@chel", person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, person.getOrgID().value, person.getDeviceInfo().deviceInfo,
+                person.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                person.getStatus().toString());
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
 }
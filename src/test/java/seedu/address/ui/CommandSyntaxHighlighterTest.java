@@ -1,19 +1,16 @@
 package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static seedu.address.logic.parser.AddressBookParser.COMMAND_WORDS_PREFIXED;
-import static seedu.address.logic.parser.AddressBookParser.COMMAND_WORDS_SINGLE_ARG;
-import static seedu.address.logic.parser.AddressBookParser.COMMAND_WORDS_STANDALONE;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.stream.Stream;
 
 import org.fxmisc.richtext.model.StyleSpans;
 import org.fxmisc.richtext.model.StyleSpansBuilder;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.CommandRegistry;
+
 public class CommandSyntaxHighlighterTest {
 
     @Test
@@ -30,10 +27,7 @@ public class CommandSyntaxHighlighterTest {
 
     @Test
     public void computeSyntaxHighlighting_partialCommands() {
-        String[] allCommandWords = Stream.of(COMMAND_WORDS_STANDALONE, COMMAND_WORDS_SINGLE_ARG,
-                COMMAND_WORDS_PREFIXED).flatMap(Arrays::stream).toArray(String[]::new);
-
-        for (String commandWord : allCommandWords) {
+        for (String commandWord : CommandRegistry.getCommandWords()) {
             for (int i = 0; i < commandWord.length(); i++) {
                 String substring = commandWord.substring(0, i + 1);
 
@@ -55,10 +49,7 @@ public class CommandSyntaxHighlighterTest {
 
     @Test
     public void computeSyntaxHighlighting_allCommands() {
-        String[] allCommandWords = Stream.of(COMMAND_WORDS_STANDALONE, COMMAND_WORDS_SINGLE_ARG,
-                COMMAND_WORDS_PREFIXED).flatMap(Arrays::stream).toArray(String[]::new);
-
-        for (String commandWord : allCommandWords) {
+        for (String commandWord : CommandRegistry.getCommandWords()) {
             // Adding a sample argument prevents the inputText from being parsed as a partially typed command.
             String inputText = commandWord + " sample argument";
 